@@ -0,0 +1,99 @@
+-- Secondary indexes for the hot query paths.
+-- Not applied automatically: the schema is managed by ddl-auto=update and there is no migration tool.
+-- Run it by hand once the application has created the tables, on existing and on new databases:
+--   mysql -h <host> -u <user> -p <database> < db/hot_path_indexes.sql
+-- Mirrors the @Index declarations on the entities, which ddl-auto=update applies to new schemas,
+-- plus the fcm_token prefix index that @Index cannot express. Each index is created only if
+-- missing, so the script is safe to re-run and to apply after Hibernate has created some of them.
+-- On large tables run it off-peak: MySQL 8 builds these online (ALGORITHM=INPLACE, LOCK=NONE).
+-- db/hot_path_query_plans.sql checks that the hot queries use the indexes.
+
+-- findByHearingDatetimeBetween / findChunkByHearingDatetimeBetween, retention min/max id
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_court_hearings_datetime ON court_hearings (hearing_datetime, id) ALGORITHM=INPLACE LOCK=NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'court_hearings' AND index_name = 'idx_court_hearings_datetime');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- findByCaseAndDateTime, findCaseIdsWithHearings
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_court_hearings_case_datetime ON court_hearings (case_id, hearing_datetime) ALGORITHM=INPLACE LOCK=NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'court_hearings' AND index_name = 'idx_court_hearings_case_datetime');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- findByParentCase / findByParentCaseIdIn, findParentCaseIdsWithChildren
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_court_cases_parent ON court_cases (parent_case_id) ALGORITHM=INPLACE LOCK=NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'court_cases' AND index_name = 'idx_court_cases_parent');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- UserSubscriptionRepository.findByUserId
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_user_subscriptions_user ON user_subscriptions (user_id) ALGORITHM=INPLACE LOCK=NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'user_subscriptions' AND index_name = 'idx_user_subscriptions_user');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- getTokensByUserId / getTokensByUserIds / findByUserId
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_fcm_tokens_user ON fcm_tokens (user_id) ALGORITHM=INPLACE LOCK=NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'fcm_tokens' AND index_name = 'idx_fcm_tokens_user');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- deleteByFcmTokenIn; TEXT column, so prefix index (not expressible in @Index)
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_fcm_tokens_token ON fcm_tokens (fcm_token(255)) ALGORITHM=INPLACE LOCK=NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'fcm_tokens' AND index_name = 'idx_fcm_tokens_token');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- findDTOPageByUserId
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at, id) ALGORITHM=INPLACE LOCK=NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'notifications' AND index_name = 'idx_notifications_user_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- findDTOPageByUserIdAndIsRead, countUnreadByUserId
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_notifications_user_read_created ON notifications (user_id, is_read, created_at, id) ALGORITHM=INPLACE LOCK=NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'notifications' AND index_name = 'idx_notifications_user_read_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- findUnsentDigestNotifications, markDigestAsSent
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_notifications_hearing_date_sent ON notifications (hearing_date, is_sent, user_id) ALGORITHM=INPLACE LOCK=NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'notifications' AND index_name = 'idx_notifications_hearing_date_sent');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- findDueByChannelAndStatus
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_notification_outbox_due ON notification_outbox (channel, status, next_attempt_at, id) ALGORITHM=INPLACE LOCK=NONE', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'notification_outbox' AND index_name = 'idx_notification_outbox_due');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
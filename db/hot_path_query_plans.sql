@@ -0,0 +1,80 @@
+-- Query plans of the hot query paths, to check after running db/hot_path_indexes.sql:
+--   mysql -h <host> -u <user> -p <database> < db/hot_path_query_plans.sql
+-- Each EXPLAIN is the SQL Hibernate generates for the repository method named above it, with
+-- sample parameters. The comment lists the plan the indexes are meant to give on MySQL 8. A plan
+-- with type ALL or key NULL on the filtered table means the index is missing or not used.
+
+-- 1. Hearing datetime range
+-- CourtHearingRepository.findChunkByHearingDatetimeBetween (nightly notification chunks)
+-- Expected on h: type range, key idx_court_hearings_datetime; the day's rows are read from the
+-- index and sorted by id (Using filesort over one day of hearings, not the table).
+-- c and p are joined on their primary keys (type eq_ref, key PRIMARY).
+EXPLAIN
+SELECT h.*, c.*, p.*
+FROM court_hearings h
+JOIN court_cases c ON c.case_id = h.case_id
+LEFT JOIN court_cases p ON p.case_id = c.parent_case_id
+WHERE h.hearing_datetime BETWEEN '2025-03-10 00:00:00' AND '2025-03-10 23:59:59' AND h.id > 0
+ORDER BY h.id
+LIMIT 100;
+
+-- 2. Parent case
+-- CourtCaseRepository.findByParentCaseIdIn (child cases of a notification chunk)
+-- Expected: p type range, key PRIMARY over the listed ids; c type ref, key idx_court_cases_parent.
+EXPLAIN
+SELECT c.*, p.*
+FROM court_cases c
+JOIN court_cases p ON p.case_id = c.parent_case_id
+WHERE p.case_id IN ('TN-HC-Madurai-26954-2025', 'TN-HC-Chennai-1200-2024');
+
+-- 3. User-keyed subscription and FCM token lookups
+-- UserSubscriptionRepository.findByUserId
+-- Expected: type ref, key idx_user_subscriptions_user.
+EXPLAIN
+SELECT us.*
+FROM user_subscriptions us
+WHERE us.user_id = 42;
+
+-- FcmTokenRepository.getTokensByUserIds (tokens of a chunk's matched users)
+-- Expected: type range, key idx_fcm_tokens_user.
+EXPLAIN
+SELECT f.*
+FROM fcm_tokens f
+WHERE f.user_id IN (42, 43, 44);
+
+-- FcmTokenRepository.deleteByFcmTokenIn (tokens rejected by FCM)
+-- Expected: type range, key idx_fcm_tokens_token.
+EXPLAIN
+DELETE FROM fcm_tokens
+WHERE fcm_token IN ('token-a', 'token-b');
+
+-- 4. Notification user queries
+-- NotificationRepository.findDTOPageByUserId (inbox page after a cursor)
+-- Expected: type range, key idx_notifications_user_created, Extra Backward index scan and no
+-- Using filesort; only the page plus one row is read.
+EXPLAIN
+SELECT n.id, n.hearing_id, n.case_ref, n.hearing_date, n.hearing_time, n.court, n.stage,
+       n.parties, n.advocates, n.is_read, n.is_sent, n.created_at
+FROM notifications n
+WHERE n.user_id = 42
+  AND (n.created_at < '2025-03-10 08:00:00' OR (n.created_at = '2025-03-10 08:00:00' AND n.id < 1000))
+ORDER BY n.created_at DESC, n.id DESC
+LIMIT 21;
+
+-- NotificationRepository.findDTOPageByUserIdAndIsRead (unread inbox page)
+-- Expected: type range, key idx_notifications_user_read_created, no Using filesort.
+EXPLAIN
+SELECT n.id, n.hearing_id, n.case_ref, n.hearing_date, n.hearing_time, n.court, n.stage,
+       n.parties, n.advocates, n.is_read, n.is_sent, n.created_at
+FROM notifications n
+WHERE n.user_id = 42 AND n.is_read = false
+  AND (n.created_at < '9999-12-31 23:59:59' OR (n.created_at = '9999-12-31 23:59:59' AND n.id < 9223372036854775807))
+ORDER BY n.created_at DESC, n.id DESC
+LIMIT 21;
+
+-- NotificationRepository.countUnreadByUserId (counter seeding and reconciliation)
+-- Expected: type ref, key idx_notifications_user_read_created, Extra Using index.
+EXPLAIN
+SELECT COUNT(n.id)
+FROM notifications n
+WHERE n.user_id = 42 AND n.is_read = false;
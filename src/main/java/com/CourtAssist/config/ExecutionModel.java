@@ -0,0 +1,89 @@
+package com.CourtAssist.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chooses how the blocking I/O stages (court import, notification dispatch, FCM sends) run:
+ * - virtual threads, one per task, when spring.threads.virtual.enabled is set and the JVM is 21+
+ *   (build with -Pjava21); concurrency is then bounded by the callers' semaphores and rate limits
+ * - otherwise fixed pools of platform threads sized by each stage's threads property
+ * The same switch moves Spring's own @Async and @Scheduled executors to virtual threads.
+ */
+@Component
+public class ExecutionModel {
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionModel.class);
+
+    private final boolean virtualThreads;
+
+    public ExecutionModel(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsRequested) {
+        boolean supported = Runtime.version().feature() >= 21;
+        if (virtualThreadsRequested && !supported) {
+            logger.warn("Virtual threads requested but running on Java {}; using platform thread pools",
+                    Runtime.version().feature());
+        }
+        this.virtualThreads = virtualThreadsRequested && supported;
+        logger.info("Blocking I/O stages run on {}", virtualThreads ? "virtual threads" : "platform thread pools");
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Executor for blocking tasks
+     *
+     * @param prefix Thread name prefix
+     * @param platformThreads Pool size when running on platform threads
+     * @return Virtual-thread-per-task executor, or a fixed platform pool
+     */
+    public ExecutorService newExecutor(String prefix, int platformThreads) {
+        if (virtualThreads) {
+            return newVirtualThreadExecutor(prefix);
+        }
+        return Executors.newFixedThreadPool(platformThreads, new CustomizableThreadFactory(prefix));
+    }
+
+    /**
+     * Executor for blocking tasks whose submitters already bound the number of queued tasks
+     *
+     * @param prefix Thread name prefix
+     * @param platformThreads Pool size when running on platform threads
+     * @param queueCapacity Task queue capacity of the platform pool
+     * @return Virtual-thread-per-task executor, or a fixed platform pool with a bounded queue
+     */
+    public ExecutorService newBoundedExecutor(String prefix, int platformThreads, int queueCapacity) {
+        if (virtualThreads) {
+            return newVirtualThreadExecutor(prefix);
+        }
+        return new ThreadPoolExecutor(platformThreads, platformThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(prefix));
+    }
+
+    /**
+     * Thread.ofVirtual() and Executors.newThreadPerTaskExecutor are Java 21 APIs; they are looked up
+     * reflectively so the same sources still build with the default Java 17 toolchain
+     */
+    private ExecutorService newVirtualThreadExecutor(String prefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available", e);
+        }
+    }
+}
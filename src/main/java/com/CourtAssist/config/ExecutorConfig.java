@@ -0,0 +1,49 @@
+package com.CourtAssist.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Bounded pool for importing the High Court benches concurrently
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService courtImportExecutor(ExecutionModel executionModel,
+                                               @Value("${court-data.import.threads:2}") int threads) {
+        return executionModel.newExecutor("court-import-", threads);
+    }
+
+    /**
+     * Bounded pool the FCM batches of a push dispatch are fanned out over
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService fcmSendExecutor(ExecutionModel executionModel,
+                                           @Value("${notification.fcm.threads:4}") int threads) {
+        return executionModel.newExecutor("fcm-send-", threads);
+    }
+
+    /**
+     * Executor for @Async notification sends made outside the outbox, such as OTP SMS
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService notificationAsyncExecutor(ExecutionModel executionModel,
+                                                     @Value("${notification.async.threads:4}") int threads) {
+        return executionModel.newExecutor("notification-async-", threads);
+    }
+
+    /**
+     * Writes live notifications and heartbeats to open SSE streams; the queue is bounded so a
+     * burst with slow clients drops live pushes instead of growing without limit
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService notificationStreamExecutor(ExecutionModel executionModel,
+                                                      @Value("${notification.stream.threads:4}") int threads,
+                                                      @Value("${notification.stream.queue-capacity:10000}") int queueCapacity) {
+        return executionModel.newBoundedExecutor("notification-stream-", threads, queueCapacity);
+    }
+}
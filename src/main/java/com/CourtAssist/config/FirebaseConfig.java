@@ -3,7 +3,9 @@ package com.CourtAssist.config;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.FirebaseMessaging;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 
@@ -45,4 +47,12 @@ public class FirebaseConfig {
             throw new RuntimeException("Failed to initialize Firebase: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Messaging client of the default app initialized above
+     */
+    @Bean
+    public FirebaseMessaging firebaseMessaging() {
+        return FirebaseMessaging.getInstance();
+    }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.CourtAssist.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 import java.security.KeyManagementException;
@@ -10,9 +12,12 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.X509Certificate;
 import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
@@ -21,11 +26,16 @@ import org.apache.hc.core5.http.config.Registry;
 import org.apache.hc.core5.http.config.RegistryBuilder;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
 import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * Client for the court data APIs, the default RestTemplate
+     */
     @Bean
+    @Primary
     public RestTemplate getRestTemplate() throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
 
         RestTemplateBuilder builder = new RestTemplateBuilder();
@@ -65,4 +75,55 @@ public class RestTemplateConfig {
                 .requestFactory(() -> factory)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Pooled client for EmailJS; connections are kept alive and reused across mails
+     */
+    @Bean
+    public RestTemplate emailRestTemplate(@Value("${notification.email.http.max-connections:10}") int maxConnections,
+                                          @Value("${notification.email.http.connect-timeout-ms:10000}") long connectTimeoutMs,
+                                          @Value("${notification.email.http.read-timeout-ms:10000}") long readTimeoutMs) {
+        return pooledRestTemplate(maxConnections, connectTimeoutMs, readTimeoutMs);
+    }
+
+    /**
+     * Pooled client for the SMS Gate API; connections are kept alive and reused across messages
+     */
+    @Bean
+    public RestTemplate smsRestTemplate(@Value("${notification.sms.http.max-connections:5}") int maxConnections,
+                                        @Value("${notification.sms.http.connect-timeout-ms:10000}") long connectTimeoutMs,
+                                        @Value("${notification.sms.http.read-timeout-ms:15000}") long readTimeoutMs) {
+        return pooledRestTemplate(maxConnections, connectTimeoutMs, readTimeoutMs);
+    }
+
+    /**
+     * Builds a RestTemplate on its own connection pool with standard certificate validation
+     * Each channel talks to a single host, so the per-route limit is the pool size
+     */
+    private RestTemplate pooledRestTemplate(int maxConnections, long connectTimeoutMs, long readTimeoutMs) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(30))
+                        .build())
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                // Used when the server sends no Keep-Alive header
+                .setConnectionKeepAlive(TimeValue.ofMinutes(1))
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictIdleConnections(TimeValue.ofMinutes(2))
+                .build();
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+}
@@ -1,6 +1,7 @@
 package com.CourtAssist.config;
 
 import com.CourtAssist.filter.JwtFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -154,6 +155,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authz -> authz
                         // Preflight requests
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // Async dispatches of requests already authorized, such as SSE streams completing
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Allow WebSocket connections
                         .requestMatchers("/ws/**").permitAll()
                         // Static resources
@@ -1,9 +1,15 @@
 package com.CourtAssist.controller;
 
 import com.CourtAssist.dto.NotificationDTO;
+import com.CourtAssist.dto.NotificationPageDTO;
 import com.CourtAssist.service.notification.NotificationService;
+import com.CourtAssist.service.notification.NotificationStreamRegistry;
+import com.CourtAssist.service.user.UserPrincipal;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -11,17 +17,40 @@ import java.util.List;
 @RequestMapping("/api/notifications")
 public class NotificationController {
     private final NotificationService notificationService;
+    private final NotificationStreamRegistry streamRegistry;
 
-    public NotificationController(NotificationService notificationService) {
+    public NotificationController(NotificationService notificationService, NotificationStreamRegistry streamRegistry) {
         this.notificationService = notificationService;
+        this.streamRegistry = streamRegistry;
     }
 
+    // Live "notification" events for the authenticated user, with heartbeat comments in between
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserPrincipal principal) {
+        return streamRegistry.register(principal.getUser().getUserId());
+    }
+
+    // Unpaged list kept for existing clients; new clients should use /user/{userId}/page
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<NotificationDTO>> getUserNotifications(@PathVariable Long userId) {
         List<NotificationDTO> notifications = notificationService.getUserNotifications(userId);
         return ResponseEntity.ok(notifications);
     }
 
+    // Newest first; follow nextCursor for older pages. isRead=false lists only unread notifications
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<?> getUserNotificationPage(@PathVariable Long userId,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  @RequestParam(required = false) Boolean isRead) {
+        try {
+            NotificationPageDTO page = notificationService.getUserNotifications(userId, cursor, limit, isRead);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}/read")
     public ResponseEntity<Void> markAsRead(@PathVariable Long id) {
         notificationService.markAsRead(id);
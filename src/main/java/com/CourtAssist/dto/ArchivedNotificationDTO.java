@@ -2,14 +2,20 @@ package com.CourtAssist.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
+/**
+ * One line of a notification archive segment: the notification as listed in the inbox plus its owner
+ */
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
-public class NotificationDTO {
+public class ArchivedNotificationDTO {
+    private Long userId;
     private Long id;
     private String hearingId;
     private String caseRef;
@@ -22,4 +28,9 @@ public class NotificationDTO {
     private Boolean isRead;
     private Boolean isSent;
     private LocalDateTime createdAt;
+
+    public NotificationDTO toNotificationDTO() {
+        return new NotificationDTO(id, hearingId, caseRef, hearingDate, hearingTime, court, stage,
+                parties, advocates, isRead, isSent, createdAt);
+    }
 }
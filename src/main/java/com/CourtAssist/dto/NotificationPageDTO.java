@@ -0,0 +1,14 @@
+package com.CourtAssist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class NotificationPageDTO {
+    private List<NotificationDTO> notifications;
+    // Pass back as the cursor to fetch the next (older) page; null on the last page
+    private String nextCursor;
+}
@@ -12,5 +12,6 @@ public class UserProfileRequest {
     private String mobileNo;
     private String advocateName;
     private String role;
+    private Boolean digestMode;
 
 }
\ No newline at end of file
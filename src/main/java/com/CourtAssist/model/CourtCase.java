@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "court_cases")
+@Table(name = "court_cases", indexes = {
+        @Index(name = "idx_court_cases_parent", columnList = "parent_case_id")
+})
 @Getter
 @Setter
 public class CourtCase {
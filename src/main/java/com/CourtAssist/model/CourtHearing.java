@@ -7,10 +7,15 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "court_hearings")
+@Table(name = "court_hearings", indexes = {
+        @Index(name = "idx_court_hearings_datetime", columnList = "hearing_datetime, id"),
+        @Index(name = "idx_court_hearings_case_datetime", columnList = "case_id, hearing_datetime")
+})
 @Getter
 @Setter
 public class CourtHearing {
+    // AUTO_INCREMENT column; imports write hearings through CourtDataBatchWriter's JDBC upsert,
+    // so the IDENTITY generator only applies to hearings saved through JPA
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "fcm_tokens")
+@Table(name = "fcm_tokens", indexes = {
+        @Index(name = "idx_fcm_tokens_user", columnList = "user_id")
+})
 public class FcmToken {
 
     @Id
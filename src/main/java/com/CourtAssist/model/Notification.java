@@ -9,7 +9,11 @@ import java.time.LocalTime;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_notifications_user_read_created", columnList = "user_id, is_read, created_at, id"),
+        @Index(name = "idx_notifications_hearing_date_sent", columnList = "hearing_date, is_sent, user_id")
+})
 @Getter
 @Setter
 public class Notification {
@@ -0,0 +1,30 @@
+package com.CourtAssist.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Materialized number of unread notifications of one user
+ * Kept in step with notifications by UnreadCounterService and repaired by its reconciliation job
+ */
+@Entity
+@Table(name = "notification_counters")
+@Getter
+@Setter
+public class NotificationCounter {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount = 0L;
+
+    // Creation time of the user's newest archived notification; null while nothing was archived
+    @Column(name = "archived_up_to")
+    private LocalDateTime archivedUpTo;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
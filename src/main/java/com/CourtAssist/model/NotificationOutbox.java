@@ -0,0 +1,83 @@
+// NotificationOutbox.java
+package com.CourtAssist.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One pending delivery of a notification over one channel
+ * Written in the same transaction as the Notification row and drained by the dispatch workers
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_due", columnList = "channel, status, next_attempt_at, id")
+})
+@Getter
+@Setter
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "notification_id", nullable = false)
+    private Notification notification;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Channel channel;
+
+    // FCM token, email address or mobile number depending on the channel
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String recipient;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    // Set on digest deliveries; the notification is then the first of the user's notifications for this date
+    @Column(name = "digest_date")
+    private LocalDate digestDate;
+
+    // Re-queued deliveries are not claimed again before this time
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    // Dispatcher instance that last claimed the entry
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Channel {
+        PUSH, EMAIL, SMS
+    }
+
+    public enum Status {
+        PENDING, IN_PROGRESS, SENT, FAILED
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+}
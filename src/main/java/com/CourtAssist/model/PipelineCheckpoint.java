@@ -0,0 +1,50 @@
+// PipelineCheckpoint.java
+package com.CourtAssist.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one stage of the daily court data pipeline for one date
+ * The position is committed together with the chunk it describes, so a restarted
+ * run continues after the last committed chunk instead of starting over
+ */
+@Entity
+@Table(name = "pipeline_checkpoints")
+@Getter
+@Setter
+public class PipelineCheckpoint {
+    @Id
+    @Column(name = "checkpoint_key")
+    private String checkpointKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Stage stage;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    // Cases read for imports; unused for notifications, which re-scan the date and skip users already notified
+    @Column(nullable = false)
+    private Long position = 0L;
+
+    @Column(nullable = false)
+    private Boolean completed = false;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Stage {
+        IMPORT, NOTIFICATIONS
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -7,7 +7,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_subscriptions")
+@Table(name = "user_subscriptions", indexes = {
+        @Index(name = "idx_user_subscriptions_user", columnList = "user_id")
+})
 @Getter
 @Setter
 public class UserSubscription {
@@ -34,6 +34,10 @@ public class Users {
     @Enumerated(EnumType.STRING)
     private UserRole role;
 
+    // Opt-in: one consolidated message per channel for all of a day's hearings
+    @Column(name = "digest_mode")
+    private Boolean digestMode = false;
+
     public enum UserRole {
         ADVOCATE,
         USER
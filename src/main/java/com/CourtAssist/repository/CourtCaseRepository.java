@@ -2,13 +2,16 @@
 package com.CourtAssist.repository;
 
 import com.CourtAssist.model.CourtCase;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +34,9 @@ public interface CourtCaseRepository extends JpaRepository<CourtCase, String> {
     @Query("SELECT c FROM CourtCase c WHERE c.parentCase.caseId = :parentCaseId")
     List<CourtCase> findByParentCaseId(@Param("parentCaseId") String parentCaseId);
 
+    @Query("SELECT c FROM CourtCase c JOIN FETCH c.parentCase p WHERE p.caseId IN :parentCaseIds")
+    List<CourtCase> findByParentCaseIdIn(@Param("parentCaseIds") Collection<String> parentCaseIds);
+
     // Add to CourtCaseRepository.java
     @Query("SELECT cc FROM CourtCase cc WHERE " +
             "cc.caseNo LIKE %:subscriptionCaseNo% AND " +
@@ -40,8 +46,19 @@ public interface CourtCaseRepository extends JpaRepository<CourtCase, String> {
             @Param("subscriptionCaseNo") String subscriptionCaseNo,
             @Param("subscriptionAdvocateName") String subscriptionAdvocateName);
 
-    @Query("DELETE FROM CourtCase cc WHERE cc.caseId IN " +
-            "(SELECT h.courtCase.caseId FROM CourtHearing h WHERE h.hearingDatetime < :hearingDatetime)")
-    void deleteCasesLinkedToOldHearings(@Param("hearingDatetime") LocalDateTime hearingDatetime);
+    /**
+     * Next ids after afterCaseId, in id order, of cases with no hearings and no child cases
+     * Served by the primary key and the case_id and parent_case_id indexes of the two subqueries
+     */
+    @Query("SELECT c.caseId FROM CourtCase c WHERE c.caseId > :afterCaseId " +
+            "AND NOT EXISTS (SELECT h.id FROM CourtHearing h WHERE h.courtCase = c) " +
+            "AND NOT EXISTS (SELECT k.caseId FROM CourtCase k WHERE k.parentCase = c) " +
+            "ORDER BY c.caseId")
+    List<String> findDeletableCaseIdsAfter(@Param("afterCaseId") String afterCaseId, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CourtCase c WHERE c.caseId IN :caseIds")
+    int deleteByCaseIdIn(@Param("caseIds") Collection<String> caseIds);
 
 }
\ No newline at end of file
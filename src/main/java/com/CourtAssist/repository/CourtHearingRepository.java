@@ -2,7 +2,10 @@
 package com.CourtAssist.repository;
 
 import com.CourtAssist.model.CourtHearing;
+import org.springframework.data.domain.Pageable;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,13 +20,30 @@ public interface CourtHearingRepository extends JpaRepository<CourtHearing, Long
     List<CourtHearing> findByHearingDatetimeBetween(@Param("start") LocalDateTime start,
                                                     @Param("end") LocalDateTime end);
 
+    @Query("SELECT h FROM CourtHearing h JOIN FETCH h.courtCase c LEFT JOIN FETCH c.parentCase " +
+            "WHERE h.hearingDatetime BETWEEN :start AND :end AND h.id > :afterId ORDER BY h.id")
+    List<CourtHearing> findChunkByHearingDatetimeBetween(@Param("start") LocalDateTime start,
+                                                         @Param("end") LocalDateTime end,
+                                                         @Param("afterId") Long afterId,
+                                                         Pageable pageable);
+
     Optional<CourtHearing> findByHearingId(String hearingId);
 
     @Query("SELECT h FROM CourtHearing h WHERE h.courtCase.caseId = :caseId AND h.hearingDatetime = :hearingDatetime")
     Optional<CourtHearing> findByCaseAndDateTime(@Param("caseId") String caseId,
                                                  @Param("hearingDatetime") LocalDateTime hearingDatetime);
 
-    @Query("DELETE FROM CourtHearing h WHERE h.hearingDatetime < :hearingDatetime")
-    void deleteHearingsBeforeDatetime(@Param("hearingDatetime") LocalDateTime hearingDatetime);
+    @Query("SELECT MIN(h.id) FROM CourtHearing h WHERE h.hearingDatetime < :hearingDatetime")
+    Long findMinIdBeforeDatetime(@Param("hearingDatetime") LocalDateTime hearingDatetime);
+
+    @Query("SELECT MAX(h.id) FROM CourtHearing h WHERE h.hearingDatetime < :hearingDatetime")
+    Long findMaxIdBeforeDatetime(@Param("hearingDatetime") LocalDateTime hearingDatetime);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CourtHearing h WHERE h.id BETWEEN :fromId AND :toId AND h.hearingDatetime < :hearingDatetime")
+    int deleteInIdRangeBeforeDatetime(@Param("fromId") Long fromId,
+                                      @Param("toId") Long toId,
+                                      @Param("hearingDatetime") LocalDateTime hearingDatetime);
 
 }
\ No newline at end of file
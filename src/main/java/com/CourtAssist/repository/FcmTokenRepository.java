@@ -1,10 +1,13 @@
 package com.CourtAssist.repository;
 
 import com.CourtAssist.model.FcmToken;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
@@ -12,5 +15,13 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
     @Query("SELECT f FROM FcmToken f WHERE f.userId = :userId")
     List<FcmToken> getTokensByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT f FROM FcmToken f WHERE f.userId IN :userIds")
+    List<FcmToken> getTokensByUserIds(@Param("userIds") Collection<Long> userIds);
+
     FcmToken findByUserId(Long userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM FcmToken f WHERE f.fcmToken IN :tokens")
+    int deleteByFcmTokenIn(@Param("tokens") Collection<String> tokens);
 }
\ No newline at end of file
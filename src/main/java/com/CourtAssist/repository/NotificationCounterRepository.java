@@ -0,0 +1,77 @@
+package com.CourtAssist.repository;
+
+import com.CourtAssist.model.NotificationCounter;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+
+    @Query("SELECT c.unreadCount FROM NotificationCounter c WHERE c.userId = :userId")
+    Optional<Long> findUnreadCountByUserId(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM NotificationCounter c WHERE c.userId = :userId")
+    Optional<NotificationCounter> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * @return 1 if the counter row was created, 0 if it already existed
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO notification_counters (user_id, unread_count, updated_at) " +
+            "VALUES (:userId, 0, :updatedAt)", nativeQuery = true)
+    int createIfAbsent(@Param("userId") Long userId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotificationCounter c SET c.unreadCount = " +
+            "CASE WHEN c.unreadCount + :delta < 0 THEN 0 ELSE c.unreadCount + :delta END, " +
+            "c.updatedAt = :updatedAt WHERE c.userId = :userId")
+    void addToUnreadCount(@Param("userId") Long userId,
+                          @Param("delta") long delta,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotificationCounter c SET c.unreadCount = :unreadCount, c.updatedAt = :updatedAt " +
+            "WHERE c.userId = :userId")
+    void setUnreadCount(@Param("userId") Long userId,
+                        @Param("unreadCount") long unreadCount,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT c.archivedUpTo FROM NotificationCounter c WHERE c.userId = :userId")
+    Optional<LocalDateTime> findArchivedUpToByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotificationCounter c SET c.archivedUpTo = " +
+            "CASE WHEN c.archivedUpTo IS NULL OR c.archivedUpTo < :archivedUpTo THEN :archivedUpTo ELSE c.archivedUpTo END, " +
+            "c.updatedAt = :updatedAt WHERE c.userId = :userId")
+    void advanceArchivedUpTo(@Param("userId") Long userId,
+                             @Param("archivedUpTo") LocalDateTime archivedUpTo,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Users whose counter differs from the number of their unread notifications, or who have
+     * unread notifications but no counter yet
+     */
+    @Query(value = "SELECT c.user_id FROM notification_counters c " +
+            "WHERE c.unread_count <> (SELECT COUNT(*) FROM notifications n " +
+            "WHERE n.user_id = c.user_id AND n.is_read = false) " +
+            "UNION " +
+            "SELECT DISTINCT n.user_id FROM notifications n WHERE n.is_read = false " +
+            "AND NOT EXISTS (SELECT 1 FROM notification_counters c WHERE c.user_id = n.user_id)",
+            nativeQuery = true)
+    List<Long> findDriftedUserIds();
+}
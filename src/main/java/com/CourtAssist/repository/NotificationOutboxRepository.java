@@ -0,0 +1,66 @@
+package com.CourtAssist.repository;
+
+import com.CourtAssist.model.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // Rows locked by another instance's claim are skipped rather than waited for
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.channel = :channel AND o.status = :status " +
+            "AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) ORDER BY o.id")
+    List<NotificationOutbox> findDueByChannelAndStatus(@Param("channel") NotificationOutbox.Channel channel,
+                                                       @Param("status") NotificationOutbox.Status status,
+                                                       @Param("now") LocalDateTime now,
+                                                       Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.attempts = :attempts, " +
+            "o.lastError = :lastError, o.nextAttemptAt = :nextAttemptAt, o.updatedAt = :updatedAt WHERE o.id = :id")
+    void updateDeliveryStatus(@Param("id") Long id,
+                              @Param("status") NotificationOutbox.Status status,
+                              @Param("attempts") Integer attempts,
+                              @Param("lastError") String lastError,
+                              @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT COUNT(o) FROM NotificationOutbox o WHERE o.notification.id = :notificationId AND o.status <> :status")
+    long countByNotificationIdAndStatusNot(@Param("notificationId") Long notificationId,
+                                           @Param("status") NotificationOutbox.Status status);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM NotificationOutbox o WHERE o.notification.id IN :notificationIds")
+    int deleteByNotificationIdIn(@Param("notificationIds") Collection<Long> notificationIds);
+
+    /**
+     * Returns IN_PROGRESS entries to PENDING when they were claimed by the given instance, or claimed
+     * before claimedBefore by any instance; entries other live instances are still delivering are kept
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotificationOutbox o SET o.status = :to, o.claimedBy = NULL, o.updatedAt = :now " +
+            "WHERE o.status = :from AND (o.claimedBy = :claimedBy OR o.updatedAt < :claimedBefore)")
+    int releaseClaims(@Param("from") NotificationOutbox.Status from,
+                      @Param("to") NotificationOutbox.Status to,
+                      @Param("claimedBy") String claimedBy,
+                      @Param("claimedBefore") LocalDateTime claimedBefore,
+                      @Param("now") LocalDateTime now);
+}
@@ -1,16 +1,22 @@
 package com.CourtAssist.repository;
 
+import com.CourtAssist.dto.ArchivedNotificationDTO;
 import com.CourtAssist.dto.NotificationDTO;
 import com.CourtAssist.dto.NotificationMessageDTO;
 import com.CourtAssist.model.Notification;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -24,15 +30,107 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             "FROM Notification n WHERE n.user.userId = :userId")
     List<NotificationDTO> findDTOByUserId(@Param("userId") Long userId);
 
+    /**
+     * Keyset page of a user's notifications, newest first, strictly older than (createdAt, id)
+     * Served by idx_notifications_user_created, so the cost does not grow with the user's history
+     */
+    @Query("SELECT new com.CourtAssist.dto.NotificationDTO(" +
+            "n.id, n.hearingId, n.caseRef, n.hearingDate, n.hearingTime, " +
+            "n.court, n.stage, n.parties, n.advocates, " +
+            "n.isRead, n.isSent, n.createdAt) " +
+            "FROM Notification n WHERE n.user.userId = :userId " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationDTO> findDTOPageByUserId(@Param("userId") Long userId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    /**
+     * Same as findDTOPageByUserId, restricted to read or unread notifications
+     * Served by idx_notifications_user_read_created
+     */
+    @Query("SELECT new com.CourtAssist.dto.NotificationDTO(" +
+            "n.id, n.hearingId, n.caseRef, n.hearingDate, n.hearingTime, " +
+            "n.court, n.stage, n.parties, n.advocates, " +
+            "n.isRead, n.isSent, n.createdAt) " +
+            "FROM Notification n WHERE n.user.userId = :userId AND n.isRead = :isRead " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationDTO> findDTOPageByUserIdAndIsRead(@Param("userId") Long userId,
+                                                       @Param("isRead") Boolean isRead,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.isRead = false")
+    int markAsRead(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.userId = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
     @Modifying
     @Transactional
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id")
-    void markAsRead(@Param("id") Long id);
+    @Query("UPDATE Notification n SET n.isSent = true WHERE n.id = :id")
+    void markAsSent(@Param("id") Long id);
 
     @Modifying
     @Transactional
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.userId = :userId")
-    void markAllAsReadByUserId(@Param("userId") Long userId);
+    @Query("UPDATE Notification n SET n.isSent = true WHERE n.hearingDate = :hearingDate AND n.user.userId = " +
+            "(SELECT d.user.userId FROM Notification d WHERE d.id = :digestNotificationId)")
+    void markDigestAsSent(@Param("digestNotificationId") Long digestNotificationId,
+                          @Param("hearingDate") LocalDate hearingDate);
+
+    /**
+     * Users already notified of the given hearings, as "hearingId:userId" keys
+     * Lets a re-run of the notification stage skip matches recorded by an earlier run
+     */
+    @Query("SELECT CONCAT(n.hearingId, ':', CAST(n.user.userId AS String)) FROM Notification n " +
+            "WHERE n.hearingDate = :hearingDate AND n.hearingId IN :hearingIds")
+    List<String> findNotifiedHearingUserKeys(@Param("hearingDate") LocalDate hearingDate,
+                                             @Param("hearingIds") Collection<String> hearingIds);
+
+    @Query("SELECT n FROM Notification n JOIN FETCH n.user u " +
+            "WHERE n.hearingDate = :hearingDate AND n.isSent = false AND u.digestMode = true " +
+            "AND NOT EXISTS (SELECT o FROM NotificationOutbox o WHERE o.notification = n) " +
+            "ORDER BY u.userId, n.hearingTime, n.id")
+    List<Notification> findUnsentDigestNotifications(@Param("hearingDate") LocalDate hearingDate);
+
+    @Query("SELECT new com.CourtAssist.dto.ArchivedNotificationDTO(" +
+            "n.user.userId, n.id, n.hearingId, n.caseRef, n.hearingDate, n.hearingTime, " +
+            "n.court, n.stage, n.parties, n.advocates, " +
+            "n.isRead, n.isSent, n.createdAt) " +
+            "FROM Notification n WHERE n.id > :afterId AND n.createdAt < :createdBefore ORDER BY n.id")
+    List<ArchivedNotificationDTO> findArchiveBatchCreatedBefore(@Param("afterId") Long afterId,
+                                                                @Param("createdBefore") LocalDateTime createdBefore,
+                                                                Pageable pageable);
+
+    @Query("SELECT new com.CourtAssist.dto.ArchivedNotificationDTO(" +
+            "n.user.userId, n.id, n.hearingId, n.caseRef, n.hearingDate, n.hearingTime, " +
+            "n.court, n.stage, n.parties, n.advocates, " +
+            "n.isRead, n.isSent, n.createdAt) " +
+            "FROM Notification n WHERE n.courtCase.caseId IN :caseIds ORDER BY n.id")
+    List<ArchivedNotificationDTO> findArchiveRecordsByCaseIdIn(@Param("caseIds") Collection<String> caseIds);
+
+    @Query("SELECT n.id FROM Notification n WHERE n.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids AND n.user.userId = :userId AND n.isRead = false")
+    int deleteUnreadByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Query("SELECT n.user.userId FROM Notification n WHERE n.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
 
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.userId = :userId AND n.isRead = false")
     Long countUnreadByUserId(@Param("userId") Long userId);
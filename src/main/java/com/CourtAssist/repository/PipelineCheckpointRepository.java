@@ -0,0 +1,9 @@
+package com.CourtAssist.repository;
+
+import com.CourtAssist.model.PipelineCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PipelineCheckpointRepository extends JpaRepository<PipelineCheckpoint, String> {
+}
@@ -27,6 +27,9 @@ public interface UserSubscriptionRepository extends JpaRepository<UserSubscripti
             @Param("caseYear") Integer caseYear
     );
 
+    @Query("SELECT us FROM UserSubscription us JOIN FETCH us.user")
+    List<UserSubscription> findAllWithUser();
+
     @Query("SELECT us FROM UserSubscription us WHERE " +
             "us.user.userId = :userId")
     List<UserSubscription> findByUserId(@Param("userId")Long userId);
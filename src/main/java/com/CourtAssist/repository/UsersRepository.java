@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -23,4 +24,10 @@ public interface UsersRepository extends JpaRepository<Users, Long> {
     @Query("SELECT u FROM Users u WHERE u.email = :contact OR u.mobileNo = :contact")
     Users findByContact(@Param("contact") String contact);
 
+    /**
+     * Find users whose username, email or mobile number equals the identifier, in one query
+     */
+    @Query("SELECT u FROM Users u WHERE u.username = :identifier OR u.email = :identifier OR u.mobileNo = :identifier")
+    List<Users> findAllByIdentifier(@Param("identifier") String identifier);
+
 }
\ No newline at end of file
@@ -2,25 +2,153 @@ package com.CourtAssist.service.cleanup;
 
 import com.CourtAssist.repository.CourtCaseRepository;
 import com.CourtAssist.repository.CourtHearingRepository;
-import jakarta.transaction.Transactional;
+import com.CourtAssist.repository.NotificationRepository;
+import com.CourtAssist.service.notification.NotificationArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+/**
+ * Retention of court data: removes hearings before a cutoff and the cases left without hearings
+ * Work is split into bounded batches, each in its own short transaction with a pause in between,
+ * so row locks and undo are held only for one batch and imports and API traffic keep running.
+ * Deletes follow the foreign keys: hearings by id range first, then cases with no hearings and no
+ * child cases, found from the current tables in case id order, each batch with its notifications
+ * (moved to the archive with their outbox rows). Case passes repeat until one deletes nothing, so
+ * parents emptied by a pass, and cases left by an earlier run, are removed too.
+ */
 @Service
 public class DataCleanUpService {
+    private static final Logger logger = LoggerFactory.getLogger(DataCleanUpService.class);
+
     private final CourtCaseRepository courtCaseRepository;
     private final CourtHearingRepository courtHearingRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveService archiveService;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final long pauseMs;
 
-    public DataCleanUpService(CourtCaseRepository courtCaseRepository, CourtHearingRepository courtHearingRepository) {
+    public DataCleanUpService(CourtCaseRepository courtCaseRepository, CourtHearingRepository courtHearingRepository,
+                              NotificationRepository notificationRepository,
+                              NotificationArchiveService archiveService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${cleanup.batch-size:1000}") int batchSize,
+                              @Value("${cleanup.batch-pause-ms:200}") long pauseMs) {
         this.courtCaseRepository = courtCaseRepository;
         this.courtHearingRepository = courtHearingRepository;
+        this.notificationRepository = notificationRepository;
+        this.archiveService = archiveService;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
     }
 
-    @Transactional
+    /**
+     * Deletes hearings before the cutoff, then every case that has no hearings and no child cases left
+     *
+     * @param date Cutoff; hearings scheduled before it are removed
+     */
     public void cleanUpData(LocalDateTime date) {
-        courtCaseRepository.deleteCasesLinkedToOldHearings(date);
-        courtHearingRepository.deleteHearingsBeforeDatetime(date);
+        deleteHearings(date);
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long deleted = 0;
+        int passes = 0;
+        long passDeleted;
+        do {
+            passDeleted = deleteCasesPass();
+            deleted += passDeleted;
+            passes++;
+        } while (passDeleted > 0 && !Thread.currentThread().isInterrupted());
+        report("cases in " + passes + " passes", deleted, startTime);
+    }
+
+    /**
+     * Deletes the hearings before the cutoff in id ranges of batchSize
+     */
+    private void deleteHearings(LocalDateTime date) {
+        Long minId = courtHearingRepository.findMinIdBeforeDatetime(date);
+        Long maxId = courtHearingRepository.findMaxIdBeforeDatetime(date);
+        if (minId == null) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long deleted = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += batchSize) {
+            long toId = Math.min(fromId + batchSize - 1, maxId);
+            long rangeStart = fromId;
+            deleted += batchTransaction.execute(status ->
+                    courtHearingRepository.deleteInIdRangeBeforeDatetime(rangeStart, toId, date));
+            if (toId < maxId && !pause()) {
+                break;
+            }
+        }
+        report("hearings", deleted, startTime);
     }
 
+    /**
+     * One pass over the cases in id order, deleting those with no hearings and no child cases,
+     * archiving their notifications first, batchSize cases per transaction
+     *
+     * @return Cases deleted
+     */
+    private long deleteCasesPass() {
+        long deleted = 0;
+        String lastCaseId = "";
+        while (true) {
+            String afterCaseId = lastCaseId;
+            List<String> batch = batchTransaction.execute(status -> {
+                List<String> caseIds = courtCaseRepository.findDeletableCaseIdsAfter(
+                        afterCaseId, PageRequest.of(0, batchSize));
+                if (!caseIds.isEmpty()) {
+                    archiveService.archiveAndDelete(notificationRepository.findArchiveRecordsByCaseIdIn(caseIds));
+                    courtCaseRepository.deleteByCaseIdIn(caseIds);
+                }
+                return caseIds;
+            });
+            deleted += batch.size();
+            if (batch.size() < batchSize) {
+                return deleted;
+            }
+            lastCaseId = batch.get(batch.size() - 1);
+            if (!pause()) {
+                return deleted;
+            }
+        }
+    }
+
+    /**
+     * @return false if interrupted, in which case the run stops after the committed batches and the
+     * interrupt status stays set
+     */
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Retention interrupted; remaining rows are removed on the next run");
+            return false;
+        }
+    }
+
+    private void report(String label, long rows, long startTime) {
+        long elapsedMs = Math.max(1, System.currentTimeMillis() - startTime);
+        logger.info("Retention deleted {} {} in {} ms ({} rows/s)", rows, label, elapsedMs, rows * 1000 / elapsedMs);
+    }
 }
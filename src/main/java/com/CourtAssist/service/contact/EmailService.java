@@ -1,5 +1,10 @@
 package com.CourtAssist.service.contact;
 
+import com.CourtAssist.model.NotificationOutbox;
+import com.CourtAssist.service.notification.DeliveryResilience;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -8,34 +13,50 @@ import java.util.Map;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 
 // uses EmailJS API (HTTPS protocol)
 @Service
 public class EmailService {
+    private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
 
     private final String serviceId;
     private final String templateId;
     private final String publicKey;
     private final RestTemplate restTemplate;
-    private final SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+    private final DeliveryResilience resilience;
 
 
     public EmailService(
             @Value("${emailjs.service.id}") String serviceId,
             @Value("${emailjs.template.id}") String templateId,
-            @Value("${emailjs.public.key}") String publicKey) {
+            @Value("${emailjs.public.key}") String publicKey,
+            @Qualifier("emailRestTemplate") RestTemplate restTemplate,
+            DeliveryResilience resilience) {
         this.serviceId = serviceId;
         this.templateId = templateId;
         this.publicKey = publicKey;
-        this.factory.setConnectTimeout(10000);
-        this.factory.setReadTimeout(10000);
-        this.restTemplate = new RestTemplate(factory);
+        this.restTemplate = restTemplate;
+        this.resilience = resilience;
     }
 
 
 
+    /**
+     * Sends the mail with a few quick retries; failures are logged, not thrown
+     */
     public void sendMail(String to, String subject, String bodyHtml) {
+        try {
+            resilience.run(NotificationOutbox.Channel.EMAIL, () -> deliverMail(to, subject, bodyHtml));
+            logger.info("Email sent successfully to: {}", to);
+        } catch (Exception e) {
+            logger.warn("Failed to send email to {}: {}", to, e.getMessage());
+        }
+    }
+
+    /**
+     * Sends the mail and lets any failure propagate, for callers that track delivery status
+     */
+    public void deliverMail(String to, String subject, String bodyHtml) {
 
         String url = "https://api.emailjs.com/api/v1.0/email/send";
 
@@ -59,13 +80,7 @@ public class EmailService {
         // 4. Wrap in HttpEntity
         HttpEntity<Map<String, Object>> request = new HttpEntity<>(payload, headers);
 
-        try {
-            restTemplate.postForObject(url, request, String.class);
-            System.out.println("Email sent successfully to: " + to);
-        } catch (Exception e) {
-            // Detailed error logging
-            System.err.println("Failed to send email: " + e.getMessage());
-        }
+        restTemplate.postForObject(url, request, String.class);
     }
 }
 
@@ -0,0 +1,105 @@
+package com.CourtAssist.service.contact;
+
+import com.CourtAssist.model.NotificationOutbox;
+import com.CourtAssist.service.notification.ChannelRateLimiter;
+import com.CourtAssist.service.notification.CircuitBreaker;
+import com.CourtAssist.service.notification.DeliveryResilience;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Coalesces SMS sends into time windows and posts identical texts as one multi-recipient
+ * SMS Gate request, e.g. the same hearing alert for every subscriber of a case
+ * Sends queued during a window are flushed together every batch-window-ms.
+ */
+@Service
+public class SmsBatchSender {
+    private static final Logger logger = LoggerFactory.getLogger(SmsBatchSender.class);
+
+    private final SmsService smsService;
+    private final ChannelRateLimiter rateLimiter;
+    private final CircuitBreaker breaker;
+    private final int maxRecipients;
+    private final ConcurrentLinkedQueue<PendingSms> queue = new ConcurrentLinkedQueue<>();
+
+    public SmsBatchSender(SmsService smsService, ChannelRateLimiter rateLimiter, DeliveryResilience resilience,
+                          @Value("${notification.sms.max-recipients:50}") int maxRecipients) {
+        this.smsService = smsService;
+        this.rateLimiter = rateLimiter;
+        this.breaker = resilience.breaker(NotificationOutbox.Channel.SMS);
+        this.maxRecipients = maxRecipients;
+    }
+
+    /**
+     * Queues an SMS for the next window
+     *
+     * @param toMobileNo Recipient mobile number
+     * @param text Message text
+     * @return Completed when the request carrying this SMS succeeds, or exceptionally when it fails
+     */
+    public CompletableFuture<Void> send(String toMobileNo, String text) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        queue.add(new PendingSms(toMobileNo, text, result));
+        return result;
+    }
+
+    /**
+     * Sends everything queued since the last window, one request per distinct text and recipient chunk
+     */
+    @Scheduled(fixedDelayString = "${notification.sms.batch-window-ms:1000}")
+    public void flush() {
+        Map<String, List<PendingSms>> byText = new LinkedHashMap<>();
+        PendingSms pending;
+        while ((pending = queue.poll()) != null) {
+            byText.computeIfAbsent(pending.text(), k -> new ArrayList<>()).add(pending);
+        }
+        if (byText.isEmpty()) return;
+
+        int requests = 0;
+        int messages = 0;
+        for (Map.Entry<String, List<PendingSms>> group : byText.entrySet()) {
+            List<PendingSms> recipients = group.getValue();
+            for (int start = 0; start < recipients.size(); start += maxRecipients) {
+                List<PendingSms> chunk = recipients.subList(start, Math.min(start + maxRecipients, recipients.size()));
+                sendChunk(group.getKey(), chunk);
+                requests++;
+                messages += chunk.size();
+            }
+        }
+        logger.debug("Flushed {} SMS in {} SMS Gate requests", messages, requests);
+    }
+
+    private void sendChunk(String text, List<PendingSms> chunk) {
+        if (breaker.getState() == CircuitBreaker.State.OPEN) {
+            DeliveryResilience.CircuitOpenException open = new DeliveryResilience.CircuitOpenException(NotificationOutbox.Channel.SMS);
+            chunk.forEach(sms -> sms.result().completeExceptionally(open));
+            return;
+        }
+
+        try {
+            rateLimiter.acquire(NotificationOutbox.Channel.SMS, 1);
+            smsService.deliverSMS(chunk.stream().map(PendingSms::toMobileNo).toList(), text);
+            breaker.recordSuccess();
+            chunk.forEach(sms -> sms.result().complete(null));
+        } catch (Exception e) {
+            if (breaker.recordFailure()) {
+                logger.warn("SMS circuit opened after repeated SMS Gate failures");
+            }
+            logger.warn("SMS Gate request for {} recipients failed: {}", chunk.size(), e.getMessage());
+            chunk.forEach(sms -> sms.result().completeExceptionally(e));
+        }
+    }
+
+    private record PendingSms(String toMobileNo, String text, CompletableFuture<Void> result) {
+    }
+}
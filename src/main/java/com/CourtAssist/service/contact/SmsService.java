@@ -1,6 +1,11 @@
 package com.CourtAssist.service.contact;
 
 // Using SMS Gateway
+import com.CourtAssist.model.NotificationOutbox;
+import com.CourtAssist.service.notification.DeliveryResilience;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -9,11 +14,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.scheduling.annotation.Async;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
 public class SmsService {
+    private static final Logger logger = LoggerFactory.getLogger(SmsService.class);
 
     // Use the base URL: https://api.sms-gate.app
     @Value("${smsgate.url}")
@@ -29,42 +37,62 @@ public class SmsService {
     private String deviceId;
 
     private final RestTemplate restTemplate;
+    private final DeliveryResilience resilience;
 
-    public SmsService() {
-        this.restTemplate = new RestTemplate();
+    public SmsService(@Qualifier("smsRestTemplate") RestTemplate restTemplate, DeliveryResilience resilience) {
+        this.restTemplate = restTemplate;
+        this.resilience = resilience;
     }
 
-    @Async
+    /**
+     * Sends the SMS in the background with a few quick retries; failures are logged, not thrown
+     */
+    @Async("notificationAsyncExecutor")
     public void sendSMS(String toMobileNo, String text) {
         try {
-            String formattedNumber = formatPhoneNumber(toMobileNo);
+            resilience.run(NotificationOutbox.Channel.SMS, () -> deliverSMS(toMobileNo, text));
+            logger.info("SMS sent to phone queue for: {}", formatPhoneNumber(toMobileNo));
+        } catch (Exception e) {
+            logger.warn("SMS Gate Error: {}", e.getMessage());
+        }
+    }
 
-            // Correct 3rd party endpoint for sending messages
-            String endpoint = gatewayUrl + "/3rdparty/v1/messages";
+    /**
+     * Sends the SMS on the calling thread and lets any failure propagate,
+     * for callers that track delivery status
+     */
+    public void deliverSMS(String toMobileNo, String text) {
+        deliverSMS(List.of(toMobileNo), text);
+    }
 
-            // Prepare the JSON body exactly as SMS Gate expects
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("phoneNumbers", new String[]{formattedNumber});
-            requestBody.put("deviceId", deviceId);
+    /**
+     * Sends the same text to several numbers in a single SMS Gate request
+     * Failures propagate and apply to every recipient of the request
+     */
+    public void deliverSMS(Collection<String> toMobileNos, String text) {
+        String[] formattedNumbers = toMobileNos.stream().map(this::formatPhoneNumber).distinct().toArray(String[]::new);
 
-            Map<String, String> textMessage = new HashMap<>();
-            textMessage.put("text", text);
-            requestBody.put("textMessage", textMessage);
+        // Correct 3rd party endpoint for sending messages
+        String endpoint = gatewayUrl + "/3rdparty/v1/messages";
 
-            // Set up Authentication
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBasicAuth(username, password);
+        // Prepare the JSON body exactly as SMS Gate expects
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("phoneNumbers", formattedNumbers);
+        requestBody.put("deviceId", deviceId);
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+        Map<String, String> textMessage = new HashMap<>();
+        textMessage.put("text", text);
+        requestBody.put("textMessage", textMessage);
 
-            // Send POST request
-            restTemplate.postForEntity(endpoint, entity, String.class);
+        // Set up Authentication
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBasicAuth(username, password);
 
-            System.out.println("SMS sent to phone queue for: " + formattedNumber);
-        } catch (Exception e) {
-            System.err.println("SMS Gate Error: " + e.getMessage());
-        }
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+
+        // Send POST request
+        restTemplate.postForEntity(endpoint, entity, String.class);
     }
 
     private String formatPhoneNumber(String phoneNumber) {
@@ -83,6 +111,7 @@ public class SmsService {
 import com.twilio.Twilio;
 import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.type.PhoneNumber;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
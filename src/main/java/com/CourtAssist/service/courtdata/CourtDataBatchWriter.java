@@ -0,0 +1,132 @@
+// CourtDataBatchWriter.java
+package com.CourtAssist.service.courtdata;
+
+import com.CourtAssist.model.CourtCase;
+import com.CourtAssist.model.CourtHearing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes imported court cases and hearings with MySQL multi-row
+ * INSERT ... ON DUPLICATE KEY UPDATE statements, one statement per chunk of rows.
+ * Replaces the findById + save round trips per row; existing rows keep their
+ * created_at and parent_case_id, matching the previous create-or-update behaviour.
+ */
+@Component
+public class CourtDataBatchWriter {
+
+    private static final String CASE_COLUMNS =
+            "(case_id, court_level, state, district, court_complex, court_name, case_type, case_no, case_year, " +
+            "petitioner_names, respondent_names, petitioner_advocate_names, respondent_advocate_names, " +
+            "parent_case_id, created_at, updated_at)";
+    private static final String CASE_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String CASE_UPDATE =
+            " ON DUPLICATE KEY UPDATE case_type = VALUES(case_type), case_no = VALUES(case_no), " +
+            "case_year = VALUES(case_year), petitioner_names = VALUES(petitioner_names), " +
+            "respondent_names = VALUES(respondent_names), " +
+            "petitioner_advocate_names = VALUES(petitioner_advocate_names), " +
+            "respondent_advocate_names = VALUES(respondent_advocate_names), updated_at = VALUES(updated_at)";
+
+    private static final String HEARING_COLUMNS =
+            "(hearing_id, case_id, court_no, stage, hearing_datetime, court_remarks, created_at)";
+    private static final String HEARING_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String HEARING_UPDATE =
+            " ON DUPLICATE KEY UPDATE case_id = VALUES(case_id), court_no = VALUES(court_no), " +
+            "stage = VALUES(stage), hearing_datetime = VALUES(hearing_datetime), " +
+            "court_remarks = VALUES(court_remarks)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public CourtDataBatchWriter(JdbcTemplate jdbcTemplate,
+                                @Value("${court-data.import.batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Upserts court cases; parents must precede their child cases in iteration order
+     *
+     * @param courtCases Cases to write
+     */
+    public void upsertCases(Collection<CourtCase> courtCases) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (List<CourtCase> chunk : chunks(courtCases)) {
+            List<Object> args = new ArrayList<>(chunk.size() * 16);
+            for (CourtCase courtCase : chunk) {
+                args.add(courtCase.getCaseId());
+                args.add(courtCase.getCourtLevel().name());
+                args.add(courtCase.getState());
+                args.add(courtCase.getDistrict());
+                args.add(courtCase.getCourtComplex());
+                args.add(courtCase.getCourtName());
+                args.add(courtCase.getCaseType());
+                args.add(courtCase.getCaseNo());
+                args.add(courtCase.getCaseYear());
+                args.add(courtCase.getPetitionerNames());
+                args.add(courtCase.getRespondentNames());
+                args.add(courtCase.getPetitionerAdvocateNames());
+                args.add(courtCase.getRespondentAdvocateNames());
+                args.add(courtCase.getParentCase() != null ? courtCase.getParentCase().getCaseId() : null);
+                args.add(now);
+                args.add(now);
+            }
+            jdbcTemplate.update(insertSql("court_cases", CASE_COLUMNS, CASE_ROW, chunk.size(), CASE_UPDATE), args.toArray());
+        }
+    }
+
+    /**
+     * Upserts hearings keyed by their unique hearing_id; the referenced cases must already be written
+     *
+     * @param hearings Hearings to write
+     */
+    public void upsertHearings(Collection<CourtHearing> hearings) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (List<CourtHearing> chunk : chunks(hearings)) {
+            List<Object> args = new ArrayList<>(chunk.size() * 7);
+            for (CourtHearing hearing : chunk) {
+                args.add(hearing.getHearingId());
+                args.add(hearing.getCourtCase().getCaseId());
+                args.add(hearing.getCourtNo());
+                args.add(hearing.getStage());
+                args.add(Timestamp.valueOf(hearing.getHearingDatetime()));
+                args.add(hearing.getCourtRemarks());
+                args.add(now);
+            }
+            jdbcTemplate.update(insertSql("court_hearings", HEARING_COLUMNS, HEARING_ROW, chunk.size(), HEARING_UPDATE), args.toArray());
+        }
+    }
+
+    private String insertSql(String table, String columns, String row, int rows, String onDuplicate) {
+        return "INSERT INTO " + table + " " + columns + " VALUES " +
+                String.join(", ", Collections.nCopies(rows, row)) + onDuplicate;
+    }
+
+    private <T> List<List<T>> chunks(Collection<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        List<T> current = new ArrayList<>(batchSize);
+        for (T item : items) {
+            current.add(item);
+            if (current.size() == batchSize) {
+                chunks.add(current);
+                current = new ArrayList<>(batchSize);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+}
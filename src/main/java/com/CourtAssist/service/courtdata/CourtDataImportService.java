@@ -3,22 +3,37 @@ package com.CourtAssist.service.courtdata;
 
 import com.CourtAssist.model.CourtCase;
 import com.CourtAssist.model.CourtHearing;
-import com.CourtAssist.repository.CourtCaseRepository;
-import com.CourtAssist.repository.CourtHearingRepository;
+import com.CourtAssist.model.PipelineCheckpoint;
+import com.CourtAssist.service.scheduler.PipelineCheckpointService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Getter;
 import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -27,15 +42,22 @@ public class CourtDataImportService {
     private static final Logger logger = LoggerFactory.getLogger(CourtDataImportService.class);
 
     private final RestTemplate restTemplate;
-    private final CourtCaseRepository courtCaseRepository;
-    private final CourtHearingRepository courtHearingRepository;
+    private final CourtDataBatchWriter batchWriter;
+    private final PipelineCheckpointService checkpointService;
+    private final TransactionTemplate batchTransaction;
     private final ObjectMapper objectMapper;
     private final NameDataCleaner nameDataCleaner;
     private final CaseTypeNormalizer caseTypeNormalizer;
+    private final ExecutorService importExecutor;
+    private final long benchTimeoutSeconds;
 
     // API endpoints for High Court data
     private static final String MADURAI_HIGH_COURT_API = "https://mhc.tn.gov.in/judis/clists/clists-madurai/api/result.php";
     private static final String MADRAS_HIGH_COURT_API = "https://mhc.tn.gov.in/judis/clists/clists-madras/api/result.php";
+    private static final Map<String, String> HIGH_COURT_BENCHES = Map.of(
+            "Madurai", MADURAI_HIGH_COURT_API,
+            "Chennai", MADRAS_HIGH_COURT_API
+    );
 
     // Date parsing constants
     private static final Map<String, Integer> MONTH_MAP = createMonthMap();
@@ -47,116 +69,210 @@ public class CourtDataImportService {
     /**
      * Constructor for dependency injection
      */
-    public CourtDataImportService(RestTemplate restTemplate, CourtCaseRepository courtCaseRepository,
-                                  CourtHearingRepository courtHearingRepository, ObjectMapper objectMapper,
-                                  NameDataCleaner nameDataCleaner, CaseTypeNormalizer caseTypeNormalizer) {
+    public CourtDataImportService(RestTemplate restTemplate, CourtDataBatchWriter batchWriter,
+                                  PipelineCheckpointService checkpointService, PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  NameDataCleaner nameDataCleaner, CaseTypeNormalizer caseTypeNormalizer,
+                                  @Qualifier("courtImportExecutor") ExecutorService importExecutor,
+                                  @Value("${court-data.import.bench-timeout-seconds:900}") long benchTimeoutSeconds) {
         this.restTemplate = restTemplate;
-        this.courtCaseRepository = courtCaseRepository;
-        this.courtHearingRepository = courtHearingRepository;
+        this.batchWriter = batchWriter;
+        this.checkpointService = checkpointService;
+        // Every batch commits on its own, even when called from a surrounding transaction
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         this.objectMapper = objectMapper;
         this.nameDataCleaner = nameDataCleaner;
         this.caseTypeNormalizer = caseTypeNormalizer;
+        this.importExecutor = importExecutor;
+        this.benchTimeoutSeconds = benchTimeoutSeconds;
     }
 
     /**
-     * Scheduled task to import court data for the next day
-     * Runs daily at 6:00 AM as configured by cron expression
+     * Imports court data for the next day, run daily at 6:00 AM by CourtDataScheduler
+     * Every bench is fetched again from the start to pick up cases listed since the last import;
+     * the upsert keeps the re-fetch idempotent
      */
-    @Scheduled(cron = "${court-data.import.cron:0 0 6 * * ?}")
-    public String importCourtData() {
-        return importCourtDataForDate(LocalDate.now().plusDays(1));
+    public ImportResult importCourtData() {
+        return importCourtDataForDate(LocalDate.now().plusDays(1), true);
     }
 
     /**
      * Main method to import court data for a specific date
+     * Both High Court benches are imported concurrently; a bench that fails or exceeds
+     * its timeout is counted as failed without affecting the other one
      *
      * @param date The date for which to import court data
-     * @return Import result summary
+     * @return Import result summary with the status of each bench
+     */
+    public ImportResult importCourtDataForDate(LocalDate date) {
+        return importCourtDataForDate(date, false);
+    }
+
+    /**
+     * @param refresh Fetch every bench from the start, ignoring completed and partial imports
      */
-    public String importCourtDataForDate(LocalDate date) {
+    private ImportResult importCourtDataForDate(LocalDate date, boolean refresh) {
         logger.info("Starting court data import process for date: {}", date);
         ImportResult result = new ImportResult();
 
         try {
             // Import data from both High Court benches
-            result.add(importHighCourtData(MADURAI_HIGH_COURT_API, "Madurai", date));
-            result.add(importHighCourtData(MADRAS_HIGH_COURT_API, "Chennai", date));
+            Map<String, Future<ImportResult>> benchImports = new LinkedHashMap<>();
+            HIGH_COURT_BENCHES.forEach((district, apiUrl) ->
+                    benchImports.put(district, importExecutor.submit(() -> importHighCourtData(apiUrl, district, date, refresh))));
 
-            logger.info("Court data import completed successfully for {}: {}", date, result);
-            return result.toString();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(benchTimeoutSeconds);
+            for (Map.Entry<String, Future<ImportResult>> benchImport : benchImports.entrySet()) {
+                result.add(awaitBenchImport(benchImport.getKey(), benchImport.getValue(), deadline));
+            }
+
+            logger.info("Court data import completed for {}: {}", date, result);
         } catch (Exception e) {
             logger.error("Error during court data import for {}: {}", date, e.getMessage());
-            return "Failed to import court data for " + date + ": " + e.getMessage();
+            HIGH_COURT_BENCHES.keySet().forEach(district -> result.benchStatuses.putIfAbsent(district, BenchStatus.FAILED));
         }
+        return result;
+    }
+
+    /**
+     * Waits for a single bench import until the shared deadline
+     *
+     * @param district The bench being imported
+     * @param benchImport Running import for the bench
+     * @param deadline System.nanoTime() value after which the import is abandoned
+     * @return Import result for the bench, or a single failure if it did not complete
+     */
+    private ImportResult awaitBenchImport(String district, Future<ImportResult> benchImport, long deadline) {
+        try {
+            return benchImport.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            logger.error("Import for {} did not finish within {} seconds, cancelling", district, benchTimeoutSeconds);
+            benchImport.cancel(true);
+        } catch (ExecutionException e) {
+            logger.error("Import for {} failed: {}", district, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            benchImport.cancel(true);
+            logger.error("Interrupted while waiting for {} import", district);
+        }
+
+        ImportResult failed = new ImportResult();
+        failed.incrementFailed();
+        failed.setBenchStatus(district, BenchStatus.FAILED);
+        return failed;
     }
 
     /**
      * Imports data from a specific High Court API endpoint
+     * Each batch commits together with the bench checkpoint, so a restarted import
+     * skips the cases that were already written. A bench is only marked completed once its
+     * cause list was read to the end and was not empty; until then it is fetched again on every run
      *
      * @param apiUrl The API endpoint URL
      * @param district The district name for the court
      * @param date The date for which to import data
+     * @param refresh Fetch from the start even if the bench was completed or partly imported
      * @return Import result for this specific API
      */
-    private ImportResult importHighCourtData(String apiUrl, String district, LocalDate date) {
+    private ImportResult importHighCourtData(String apiUrl, String district, LocalDate date, boolean refresh) {
         logger.info("Importing data from {} for district {} and date {}", apiUrl, district, date);
         ImportResult result = new ImportResult();
 
+        if (!refresh && checkpointService.isCompleted(PipelineCheckpoint.Stage.IMPORT, district, date)) {
+            logger.info("Import for {} on {} already completed, skipping", district, date);
+            result.setBenchStatus(district, BenchStatus.COMPLETED);
+            return result;
+        }
+        long resumePosition = refresh ? 0 : checkpointService.getPosition(PipelineCheckpoint.Stage.IMPORT, district, date);
+        if (resumePosition > 0) {
+            logger.info("Resuming import for {} on {} after {} committed cases", district, date, resumePosition);
+        }
+
         try {
             String dateParam = date.format(DATE_PARAM_FORMATTER);
             String fullApiUrl = apiUrl + "?file=cause_" + dateParam + ".xml";
 
-            String responseData = restTemplate.getForObject(fullApiUrl, String.class);
+            // Stream the cause list into batches so that only one batch is held in memory at a time
+            ImportBatch batch = new ImportBatch();
+            Integer caseCount;
+            try {
+                caseCount = restTemplate.execute(fullApiUrl, HttpMethod.GET, null,
+                        response -> streamApiResponse(response.getBody(), node -> {
+                            if (++batch.streamPosition <= resumePosition) return;
+                            try {
+                                // A malformed record is skipped; the rest of the cause list is still imported
+                                processCourtCase(parseCourtCase(node), district, batch);
+                            } catch (Exception e) {
+                                logger.error("Skipping court case {} of {}: {}", batch.streamPosition, district, e.getMessage());
+                                result.incrementFailed();
+                            }
+                            if (batch.size() >= batchWriter.getBatchSize()) {
+                                flushBatch(batch, result, district, date);
+                            }
+                        }));
+            } catch (Exception e) {
+                // Keep the cases read before the stream broke; a restart resumes after them
+                try {
+                    flushBatch(batch, result, district, date);
+                } catch (Exception flushFailure) {
+                    e.addSuppressed(flushFailure);
+                }
+                throw e;
+            }
+            flushBatch(batch, result, district, date);
 
-            if (responseData == null || responseData.trim().isEmpty()) {
+            if (caseCount == null || caseCount == 0) {
+                // The cause list may not be published yet; leave the bench open so the next run fetches it
                 logger.info("Empty response from API for date {}", date);
+                result.setBenchStatus(district, BenchStatus.EMPTY);
                 return result;
             }
+            checkpointService.markCompleted(PipelineCheckpoint.Stage.IMPORT, district, date);
+            result.setBenchStatus(district, BenchStatus.COMPLETED);
 
-            List<CourtCaseApiResponse> apiResponses = parseApiResponse(responseData);
-            logger.info("Found {} cases in response from {}", apiResponses.size(), district);
-
-            for (CourtCaseApiResponse apiResponse : apiResponses) {
-                try {
-                    processCourtCase(apiResponse, district);
-                    result.incrementSuccess();
-                } catch (Exception e) {
-                    logger.error("Failed to process court case: {}", e.getMessage());
-                    result.incrementFailed();
-                }
-            }
+            logger.info("Processed {} cases in response from {}", caseCount, district);
 
         } catch (Exception e) {
             logger.error("Failed to import data from {}: {}", apiUrl, e.getMessage());
             result.incrementFailed();
+            result.setBenchStatus(district, BenchStatus.FAILED);
         }
         return result;
     }
 
     /**
-     * Parses the JSON response from the court API
+     * Parses the JSON response from the court API incrementally
+     * Each case is read as a small tree, handed to the consumer and then discarded,
+     * so memory use does not depend on the size of the cause list
      *
-     * @param responseData Raw JSON response string
-     * @return List of parsed court case responses
+     * @param responseBody Response stream from the court API
+     * @param consumer Receives each court case record in document order
+     * @return Number of court case records handed to the consumer
+     * @throws IOException If the response cannot be read or is not valid JSON; records already handed over are kept
      */
-    private List<CourtCaseApiResponse> parseApiResponse(String responseData) {
-        try {
-            JsonNode rootNode = objectMapper.readTree(responseData);
-            List<CourtCaseApiResponse> responses = new ArrayList<>();
+    private int streamApiResponse(InputStream responseBody, Consumer<JsonNode> consumer) throws IOException {
+        int caseCount = 0;
 
-            if (rootNode.isArray()) {
-                for (JsonNode node : rootNode) {
-                    responses.add(parseCourtCase(node));
+        try (JsonParser parser = objectMapper.getFactory().createParser(responseBody)) {
+            JsonToken rootToken = parser.nextToken();
+
+            if (rootToken == JsonToken.START_ARRAY) {
+                JsonToken token;
+                while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                    consumer.accept(objectMapper.readTree(parser));
+                    caseCount++;
                 }
-            } else if (rootNode.isObject()) {
-                responses.add(parseCourtCase(rootNode));
+            } else if (rootToken == JsonToken.START_OBJECT) {
+                consumer.accept(objectMapper.readTree(parser));
+                caseCount++;
             }
-
-            return responses;
-        } catch (Exception e) {
-            logger.error("Failed to parse API response: {}", e.getMessage());
-            return Collections.emptyList();
+        } catch (IOException e) {
+            logger.error("Failed to parse API response after {} cases: {}", caseCount, e.getMessage());
+            throw e;
         }
+
+        return caseCount;
     }
 
     /**
@@ -199,42 +315,71 @@ public class CourtDataImportService {
     }
 
     /**
-     * Processes a single court case and its associated hearing
+     * Writes the staged cases and hearings of a batch in its own transaction,
+     * together with the bench checkpoint, and records the outcome
+     *
+     * @param batch Staged rows for the batch
+     * @param result Import result to update
+     * @param district Bench the batch belongs to
+     * @param date Date being imported
+     */
+    private void flushBatch(ImportBatch batch, ImportResult result, String district, LocalDate date) {
+        if (batch.size() == 0) return;
+
+        try {
+            batchTransaction.executeWithoutResult(status -> {
+                // Cases first: hearings and child cases reference them
+                batchWriter.upsertCases(batch.cases.values());
+                batchWriter.upsertHearings(batch.hearings.values());
+                checkpointService.savePosition(PipelineCheckpoint.Stage.IMPORT, district, date, batch.streamPosition);
+            });
+            result.incrementSuccess(batch.size());
+        } catch (Exception e) {
+            logger.error("Failed to write batch of {} court cases: {}", batch.size(), e.getMessage());
+            result.incrementFailed(batch.size());
+            // Stop the bench here so that a restart resumes from the last committed batch
+            throw e;
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Stages a single court case and its associated hearing in the current batch
      *
      * @param apiResponse Parsed API response for the case
      * @param district District where the case is filed
+     * @param batch Batch collecting rows to write
      */
-    private void processCourtCase(CourtCaseApiResponse apiResponse, String district) {
+    private void processCourtCase(CourtCaseApiResponse apiResponse, String district, ImportBatch batch) {
         // Process main case
         CourtCase mainCase = createOrUpdateMainCase(apiResponse, district);
-        createOrUpdateHearing(apiResponse, mainCase);
+        CourtHearing hearing = createOrUpdateHearing(apiResponse, mainCase);
 
         // Process any associated extra cases
+        List<CourtCase> extraCases = Collections.emptyList();
         if (apiResponse.getExtra() != null && !apiResponse.getExtra().isEmpty()) {
-            processExtraCases(apiResponse.getExtra(), mainCase, district);
+            extraCases = processExtraCases(apiResponse.getExtra(), mainCase, district);
         }
+
+        batch.stageCase(mainCase);
+        batch.stageHearing(hearing);
+        extraCases.forEach(batch::stageCase);
+        batch.apiCaseCount++;
     }
 
     /**
-     * Creates or updates the main court case in the database
+     * Builds the main court case row from the API response
+     * Existing rows are updated by the batch upsert
      *
      * @param apiResponse Parsed API response data
      * @param district Court district
-     * @return Saved court case entity
+     * @return Court case entity to upsert
      */
     private CourtCase createOrUpdateMainCase(CourtCaseApiResponse apiResponse, String district) {
         String caseId = generateCaseId(apiResponse.getCaseNo(), apiResponse.getCaseYear(), district);
 
-        CourtCase courtCase = courtCaseRepository.findById(caseId)
-                .orElseGet(() -> {
-                    CourtCase newCase = new CourtCase();
-                    newCase.setCaseId(caseId);
-                    newCase.setState("Tamil Nadu");
-                    newCase.setDistrict(district);
-                    newCase.setCourtComplex(district + " High Court");
-                    newCase.setCourtLevel(CourtCase.CourtLevel.HIGH_COURT);
-                    return newCase;
-                });
+        CourtCase courtCase = newHighCourtCase(caseId, district);
 
         // Update case details with latest data
         String normalizedCaseType = caseTypeNormalizer.normalizeCaseType(apiResponse.getCaseType());
@@ -246,21 +391,20 @@ public class CourtDataImportService {
         courtCase.setPetitionerAdvocateNames(apiResponse.getPetitionerAdvocateNames());
         courtCase.setRespondentAdvocateNames(apiResponse.getRespondentAdvocateNames());
 
-        return courtCaseRepository.save(courtCase);
+        return courtCase;
     }
 
     /**
-     * Creates or updates hearing information for a court case
+     * Builds the hearing row for a court case
      *
      * @param apiResponse Parsed API response data
      * @param courtCase Associated court case entity
+     * @return Hearing entity to upsert
      */
-    private void createOrUpdateHearing(CourtCaseApiResponse apiResponse, CourtCase courtCase) {
+    private CourtHearing createOrUpdateHearing(CourtCaseApiResponse apiResponse, CourtCase courtCase) {
         String hearingId = generateHearingId(courtCase.getCaseId(), apiResponse.getCourtRemarks());
 
-        CourtHearing hearing = courtHearingRepository.findByHearingId(hearingId)
-                .orElseGet(CourtHearing::new);
-
+        CourtHearing hearing = new CourtHearing();
         hearing.setHearingId(hearingId);
         hearing.setCourtCase(courtCase);
         hearing.setCourtNo(apiResponse.getCourtNo());
@@ -268,18 +412,21 @@ public class CourtDataImportService {
         hearing.setHearingDatetime(parseHearingDateTime(apiResponse.getCourtRemarks()));
         hearing.setCourtRemarks(apiResponse.getCourtRemarks());
 
-        courtHearingRepository.save(hearing);
+        return hearing;
     }
 
     /**
-     * Processes extra cases associated with the main case
+     * Builds the extra cases associated with the main case
+     * The parent link only applies to newly inserted cases, as before
      *
      * @param extraCases Extra cases data from API response
      * @param mainCase Parent main case entity
      * @param district Court district
+     * @return Extra case entities to upsert
      */
-    private void processExtraCases(ExtraCasesApiResponse extraCases, CourtCase mainCase, String district) {
-        if (extraCases.getCaseNos().isEmpty()) return;
+    private List<CourtCase> processExtraCases(ExtraCasesApiResponse extraCases, CourtCase mainCase, String district) {
+        List<CourtCase> result = new ArrayList<>();
+        if (extraCases.getCaseNos().isEmpty()) return result;
 
         for (int i = 0; i < extraCases.getCaseNos().size(); i++) {
             try {
@@ -291,17 +438,8 @@ public class CourtDataImportService {
                 }
 
                 String caseId = generateCaseId(caseNo, caseYear, district);
-                CourtCase extraCase = courtCaseRepository.findById(caseId)
-                        .orElseGet(() -> {
-                            CourtCase newCase = new CourtCase();
-                            newCase.setCaseId(caseId);
-                            newCase.setState("Tamil Nadu");
-                            newCase.setDistrict(district);
-                            newCase.setCourtComplex(district + " High Court");
-                            newCase.setCourtLevel(CourtCase.CourtLevel.HIGH_COURT);
-                            newCase.setParentCase(mainCase);
-                            return newCase;
-                        });
+                CourtCase extraCase = newHighCourtCase(caseId, district);
+                extraCase.setParentCase(mainCase);
 
                 // Update extra case details
 
@@ -315,12 +453,26 @@ public class CourtDataImportService {
                 extraCase.setPetitionerAdvocateNames(nameDataCleaner.cleanNames(getAtIndex(extraCases.getPetitionerAdvocateNames(), i)));
                 extraCase.setRespondentAdvocateNames(nameDataCleaner.cleanNames(getAtIndex(extraCases.getRespondentAdvocateNames(), i)));
 
-                courtCaseRepository.save(extraCase);
+                result.add(extraCase);
 
             } catch (Exception e) {
                 logger.error("Failed to process extra case at index {}: {}", i, e.getMessage());
             }
         }
+        return result;
+    }
+
+    /**
+     * Creates a new High Court case with the fixed location fields set
+     */
+    private CourtCase newHighCourtCase(String caseId, String district) {
+        CourtCase newCase = new CourtCase();
+        newCase.setCaseId(caseId);
+        newCase.setState("Tamil Nadu");
+        newCase.setDistrict(district);
+        newCase.setCourtComplex(district + " High Court");
+        newCase.setCourtLevel(CourtCase.CourtLevel.HIGH_COURT);
+        return newCase;
     }
 
     // Helper methods for JSON parsing
@@ -485,23 +637,75 @@ public class CourtDataImportService {
         }
     }
 
+    /**
+     * Rows staged for one batch write, merged by key
+     * A case seen again keeps its first position and parent link, like an existing row would
+     */
+    private static class ImportBatch {
+        private final Map<String, CourtCase> cases = new LinkedHashMap<>();
+        private final Map<String, CourtHearing> hearings = new LinkedHashMap<>();
+        private int apiCaseCount = 0;
+        // Cases read from the response so far, including skipped and failed ones
+        private long streamPosition = 0;
+
+        void stageCase(CourtCase courtCase) {
+            CourtCase staged = cases.get(courtCase.getCaseId());
+            if (staged != null) {
+                courtCase.setParentCase(staged.getParentCase());
+            }
+            cases.put(courtCase.getCaseId(), courtCase);
+        }
+
+        void stageHearing(CourtHearing hearing) {
+            hearings.put(hearing.getHearingId(), hearing);
+        }
+
+        int size() { return apiCaseCount; }
+
+        void clear() {
+            cases.clear();
+            hearings.clear();
+            apiCaseCount = 0;
+        }
+    }
+
+    /**
+     * Outcome of a single bench import
+     * EMPTY benches are not marked completed and are fetched again by the next run
+     */
+    public enum BenchStatus {
+        COMPLETED, EMPTY, FAILED
+    }
+
     /**
      * Tracks import results for reporting
      */
-    private static class ImportResult {
+    public static class ImportResult {
         private int successfulImports = 0;
         private int failedImports = 0;
+        private final Map<String, BenchStatus> benchStatuses = new LinkedHashMap<>();
 
         public void incrementSuccess() { successfulImports++; }
+        public void incrementSuccess(int count) { successfulImports += count; }
         public void incrementFailed() { failedImports++; }
+        public void incrementFailed(int count) { failedImports += count; }
+        public void setBenchStatus(String district, BenchStatus status) { benchStatuses.put(district, status); }
         public void add(ImportResult other) {
             this.successfulImports += other.successfulImports;
             this.failedImports += other.failedImports;
+            this.benchStatuses.putAll(other.benchStatuses);
         }
 
+        public Map<String, BenchStatus> getBenchStatuses() { return Collections.unmodifiableMap(benchStatuses); }
+
+        /**
+         * True if any bench could not be read to the end, so the imported data for the date is incomplete
+         */
+        public boolean hasFailedBenches() { return benchStatuses.containsValue(BenchStatus.FAILED); }
+
         @Override
         public String toString() {
-            return String.format("Successful: %d, Failed: %d", successfulImports, failedImports);
+            return String.format("Successful: %d, Failed: %d, Benches: %s", successfulImports, failedImports, benchStatuses);
         }
     }
 }
\ No newline at end of file
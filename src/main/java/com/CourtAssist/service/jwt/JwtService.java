@@ -1,15 +1,21 @@
 package com.CourtAssist.service.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 @Service
@@ -24,6 +30,30 @@ public class JwtService {
     @Value("${jwt.refresh-token-expiration}")
     private long REFRESH_TOKEN_EXPIRATION;
 
+    @Value("${jwt.verified-cache.max-entries:10000}")
+    private int VERIFIED_CACHE_MAX_ENTRIES;
+
+    // Decoded once at startup instead of on every sign and parse
+    private SecretKey signInKey;
+    private JwtParser parser;
+    private Map<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
+        signInKey = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parser().verifyWith(signInKey).build();
+
+        // Bounded LRU of verified tokens, so repeat requests with the same token skip the HMAC check
+        int maxEntries = VERIFIED_CACHE_MAX_ENTRIES;
+        verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
     public String generateAccessToken(String username) {
         return buildToken(username, ACCESS_TOKEN_EXPIRATION);
     }
@@ -42,8 +72,32 @@ public class JwtService {
     }
 
     private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signInKey;
+    }
+
+    /**
+     * Parses and verifies a token once; verified tokens are cached until they expire
+     *
+     * @param token Compact JWT
+     * @return Verified claims
+     * @throws ExpiredJwtException If the token has expired
+     * @throws io.jsonwebtoken.JwtException If the token is malformed or its signature does not verify
+     */
+    public Claims parseToken(String token) {
+        Claims claims = verifiedTokens.get(token);
+        if (claims != null) {
+            if (claims.getExpiration().before(new Date())) {
+                verifiedTokens.remove(token);
+                throw new ExpiredJwtException(null, claims, "JWT expired at " + claims.getExpiration().toInstant());
+            }
+            return claims;
+        }
+
+        claims = parser.parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(token, claims);
+        }
+        return claims;
     }
 
     public String extractUsername(String token) {
@@ -51,29 +105,24 @@ public class JwtService {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseToken(token);
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return validateToken(parseToken(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Checks already verified claims against the user, without parsing the token again
+     */
+    public boolean validateToken(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        return (username.equals(userDetails.getUsername())) && !isTokenExpired(claims);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     public long getAccessTokenExpiration() {
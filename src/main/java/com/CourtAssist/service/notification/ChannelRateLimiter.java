@@ -0,0 +1,79 @@
+// ChannelRateLimiter.java
+package com.CourtAssist.service.notification;
+
+import com.CourtAssist.model.NotificationOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-channel token buckets that keep outbound calls within the provider rate limits
+ * Permits are messages for push, and requests for email and SMS (an SMS request may carry many recipients).
+ * Delivery workers wait for permits, which holds their in-flight slots and stops the dispatcher
+ * from claiming more work, so backpressure reaches the outbox instead of the provider returning 429s.
+ */
+@Component
+public class ChannelRateLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(ChannelRateLimiter.class);
+
+    private final Map<NotificationOutbox.Channel, TokenBucket> buckets = new EnumMap<>(NotificationOutbox.Channel.class);
+    private final Map<NotificationOutbox.Channel, Long> lastGranted = new EnumMap<>(NotificationOutbox.Channel.class);
+    private long lastReportNanos = System.nanoTime();
+
+    public ChannelRateLimiter(@Value("${notification.rate.push.permits-per-second:500}") double pushRate,
+                              @Value("${notification.rate.push.burst:1000}") int pushBurst,
+                              @Value("${notification.rate.email.permits-per-second:1}") double emailRate,
+                              @Value("${notification.rate.email.burst:2}") int emailBurst,
+                              @Value("${notification.rate.sms.permits-per-second:1}") double smsRate,
+                              @Value("${notification.rate.sms.burst:5}") int smsBurst) {
+        buckets.put(NotificationOutbox.Channel.PUSH, new TokenBucket(pushRate, pushBurst));
+        buckets.put(NotificationOutbox.Channel.EMAIL, new TokenBucket(emailRate, emailBurst));
+        buckets.put(NotificationOutbox.Channel.SMS, new TokenBucket(smsRate, smsBurst));
+    }
+
+    /**
+     * Waits until the channel allows the given number of calls
+     *
+     * @param channel Channel about to be called
+     * @param permits Messages or requests about to be sent
+     */
+    public void acquire(NotificationOutbox.Channel channel, int permits) {
+        try {
+            buckets.get(channel).acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + channel + " rate limit", e);
+        }
+    }
+
+    public TokenBucket getBucket(NotificationOutbox.Channel channel) {
+        return buckets.get(channel);
+    }
+
+    /**
+     * Logs per-channel throughput and throttling since the previous report, when there was traffic
+     */
+    @Scheduled(fixedDelayString = "${notification.rate.report-interval-ms:60000}")
+    public synchronized void reportThroughput() {
+        long now = System.nanoTime();
+        double seconds = Math.max((now - lastReportNanos) / 1_000_000_000.0, 0.001);
+        lastReportNanos = now;
+
+        for (Map.Entry<NotificationOutbox.Channel, TokenBucket> entry : buckets.entrySet()) {
+            TokenBucket bucket = entry.getValue();
+            long granted = bucket.getGranted();
+            long sinceLast = granted - lastGranted.getOrDefault(entry.getKey(), 0L);
+            lastGranted.put(entry.getKey(), granted);
+            if (sinceLast > 0) {
+                logger.info("{} throughput: {} permits/s over {}s (total granted {}, throttled {}, waited {} ms)",
+                        entry.getKey(), String.format("%.1f", sinceLast / seconds), Math.round(seconds),
+                        granted, bucket.getThrottled(), bucket.getWaitMillis());
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+// CircuitBreaker.java
+package com.CourtAssist.service.notification;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Consecutive-failure circuit breaker for one delivery channel
+ * - CLOSED: calls go through; failureThreshold consecutive failures open the circuit
+ * - OPEN: calls are rejected without touching the provider until openDuration has passed
+ * - HALF_OPEN: a single trial call is let through; success closes the circuit, failure reopens it
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final long CLOSED = -1;
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // System.nanoTime when the circuit opened, or CLOSED
+    private final AtomicLong openedAt = new AtomicLong(CLOSED);
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    public CircuitBreaker(String name, int failureThreshold, long openDurationMs) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        long opened = openedAt.get();
+        if (opened == CLOSED) return State.CLOSED;
+        return System.nanoTime() - opened < openNanos ? State.OPEN : State.HALF_OPEN;
+    }
+
+    /**
+     * Asks to make a call; in HALF_OPEN only the first caller gets the trial
+     * A caller that was allowed must report the outcome, or release the trial when it made no call
+     *
+     * @return true if the call may go ahead
+     */
+    public boolean tryAcquire() {
+        State state = getState();
+        if (state == State.CLOSED) return true;
+        if (state == State.OPEN) return false;
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    /**
+     * Gives back a HALF_OPEN trial that was not used
+     */
+    public void releaseTrial() {
+        trialInFlight.set(false);
+    }
+
+    /**
+     * Time left until the circuit half-opens, zero when it is not open
+     */
+    public long remainingOpenMillis() {
+        long opened = openedAt.get();
+        if (opened == CLOSED) return 0;
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(openNanos - (System.nanoTime() - opened)));
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        openedAt.set(CLOSED);
+        trialInFlight.set(false);
+    }
+
+    /**
+     * @return true if this failure opened (or reopened) the circuit
+     */
+    public boolean recordFailure() {
+        if (openedAt.get() != CLOSED) {
+            // Failed trial, or a straggler from before the circuit opened: restart the open period
+            openedAt.set(System.nanoTime());
+            trialInFlight.set(false);
+            return true;
+        }
+        return consecutiveFailures.incrementAndGet() >= failureThreshold
+                && openedAt.compareAndSet(CLOSED, System.nanoTime());
+    }
+}
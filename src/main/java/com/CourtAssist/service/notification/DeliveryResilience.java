@@ -0,0 +1,114 @@
+// DeliveryResilience.java
+package com.CourtAssist.service.notification;
+
+import com.CourtAssist.model.NotificationOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry and circuit breaking shared by the notification channels
+ * The outbox dispatcher uses the breakers to stop claiming work for a channel that is down and
+ * the backoff to schedule re-queued deliveries; direct callers such as the OTP endpoints use
+ * {@link #run} for a few quick in-place retries.
+ */
+@Component
+public class DeliveryResilience {
+    private static final Logger logger = LoggerFactory.getLogger(DeliveryResilience.class);
+
+    private final Map<NotificationOutbox.Channel, CircuitBreaker> breakers = new EnumMap<>(NotificationOutbox.Channel.class);
+    private final int maxAttempts;
+    private final long retryBaseMs;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+
+    public DeliveryResilience(@Value("${notification.breaker.failure-threshold:5}") int failureThreshold,
+                              @Value("${notification.breaker.open-duration-ms:60000}") long openDurationMs,
+                              @Value("${notification.retry.max-attempts:3}") int maxAttempts,
+                              @Value("${notification.retry.base-delay-ms:500}") long retryBaseMs,
+                              @Value("${notification.dispatch.backoff-base-ms:30000}") long backoffBaseMs,
+                              @Value("${notification.dispatch.backoff-max-ms:900000}") long backoffMaxMs) {
+        for (NotificationOutbox.Channel channel : NotificationOutbox.Channel.values()) {
+            breakers.put(channel, new CircuitBreaker(channel.name(), failureThreshold, openDurationMs));
+        }
+        this.maxAttempts = maxAttempts;
+        this.retryBaseMs = retryBaseMs;
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+    }
+
+    public CircuitBreaker breaker(NotificationOutbox.Channel channel) {
+        return breakers.get(channel);
+    }
+
+    /**
+     * Delay before a re-queued delivery is claimed again, growing exponentially with the attempt count
+     *
+     * @param attempts Attempts made so far, at least 1
+     * @return Delay in milliseconds
+     */
+    public long requeueDelayMillis(int attempts) {
+        return jitteredBackoff(backoffBaseMs, backoffMaxMs, attempts);
+    }
+
+    /**
+     * Runs a delivery with bounded, jittered retries, failing fast while the channel's circuit is open
+     *
+     * @param channel Channel the delivery goes over
+     * @param delivery Call that throws on failure
+     * @throws CircuitOpenException If the circuit is open
+     * @throws RuntimeException The last failure once all attempts are used
+     */
+    public void run(NotificationOutbox.Channel channel, Runnable delivery) {
+        CircuitBreaker breaker = breakers.get(channel);
+        for (int attempt = 1; ; attempt++) {
+            if (!breaker.tryAcquire()) {
+                throw new CircuitOpenException(channel);
+            }
+            try {
+                delivery.run();
+                breaker.recordSuccess();
+                return;
+            } catch (RuntimeException e) {
+                if (breaker.recordFailure()) {
+                    logger.warn("{} circuit opened after repeated failures: {}", channel, e.getMessage());
+                }
+                if (attempt >= maxAttempts) throw e;
+
+                long delay = jitteredBackoff(retryBaseMs, retryBaseMs * 8, attempt);
+                logger.debug("{} delivery failed (attempt {}/{}), retrying in {} ms: {}",
+                        channel, attempt, maxAttempts, delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Exponential backoff with "equal jitter": half the delay is fixed, half is random,
+     * so retries from many workers spread out instead of arriving together
+     */
+    private static long jitteredBackoff(long baseMs, long maxMs, int attempt) {
+        long exponential = Math.min(maxMs, baseMs << Math.min(Math.max(attempt - 1, 0), 20));
+        long half = exponential / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    /**
+     * Thrown instead of calling a provider whose circuit is open
+     */
+    public static class CircuitOpenException extends RuntimeException {
+        public CircuitOpenException(NotificationOutbox.Channel channel) {
+            super(channel + " circuit is open, provider calls are suspended");
+        }
+    }
+}
@@ -1,22 +1,105 @@
 package com.CourtAssist.service.notification;
 
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
 @Service
 public class FcmService {
     Logger logger = LoggerFactory.getLogger(FcmService.class);
+
+    // Largest number of messages FCM accepts in one sendEach call
+    static final int MAX_BATCH_SIZE = 500;
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final ExecutorService fcmSendExecutor;
+
+    public FcmService(FirebaseMessaging firebaseMessaging,
+                      @Qualifier("fcmSendExecutor") ExecutorService fcmSendExecutor) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.fcmSendExecutor = fcmSendExecutor;
+    }
+
     public void sendNotificationToToken(String targetToken, String title, String body) {
         if (targetToken == null || targetToken.trim().isEmpty()) {
             logger.warn("Skipping FCM notification: empty token for title: {}", title);
             return;
         }
+
+        try {
+            // Send the message and get the message ID
+            firebaseMessaging.send(buildMessage(targetToken, title, body));
+        } catch (Exception e) {
+            throw new RuntimeException("Error sending FCM message", e);
+        }
+    }
+
+    /**
+     * Sends many push notifications with as few FCM calls as possible
+     * Messages are grouped into sendEach calls of up to 500, which run in parallel on the FCM executor
+     *
+     * @param messages Messages to send
+     * @return One result per message, in the same order
+     */
+    public List<PushResult> sendBatch(List<PushMessage> messages) {
+        List<CompletableFuture<List<PushResult>>> batches = new ArrayList<>();
+        for (int start = 0; start < messages.size(); start += MAX_BATCH_SIZE) {
+            List<PushMessage> batch = messages.subList(start, Math.min(start + MAX_BATCH_SIZE, messages.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> sendEach(batch), fcmSendExecutor));
+        }
+
+        List<PushResult> results = new ArrayList<>(messages.size());
+        for (CompletableFuture<List<PushResult>> batch : batches) {
+            results.addAll(batch.join());
+        }
+        return results;
+    }
+
+    private List<PushResult> sendEach(List<PushMessage> batch) {
+        List<Message> messages = new ArrayList<>(batch.size());
+        for (PushMessage message : batch) {
+            messages.add(buildMessage(message.token(), message.title(), message.body()));
+        }
+
+        List<PushResult> results = new ArrayList<>(batch.size());
+        try {
+            BatchResponse response = firebaseMessaging.sendEach(messages);
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < batch.size(); i++) {
+                SendResponse sendResponse = responses.get(i);
+                FirebaseMessagingException error = sendResponse.getException();
+                results.add(sendResponse.isSuccessful()
+                        ? PushResult.success(batch.get(i).token())
+                        : PushResult.failure(batch.get(i).token(), error.getMessagingErrorCode(), error.getMessage()));
+            }
+            logger.debug("FCM batch of {} sent: {} succeeded, {} failed",
+                    batch.size(), response.getSuccessCount(), response.getFailureCount());
+        } catch (Exception e) {
+            // The whole call failed (auth, network); every message in it is reported as failed
+            logger.error("FCM batch of {} failed: {}", batch.size(), e.getMessage());
+            for (PushMessage message : batch) {
+                results.add(PushResult.failure(message.token(), null, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    private Message buildMessage(String targetToken, String title, String body) {
         // Build the notification message
-        Message message = Message.builder()
+        return Message.builder()
                 .setToken(targetToken) // The device token from your database
                 .setNotification(Notification.builder()
                         .setTitle(title)
@@ -26,12 +109,48 @@ public class FcmService {
                 // .putData("caseRef", caseRef)
                 // .putData("hearingDate", hearingDate)
                 .build();
+    }
 
-        try {
-            // Send the message and get the message ID
-            FirebaseMessaging.getInstance().send(message);
-        } catch (Exception e) {
-            throw new RuntimeException("Error sending FCM message", e);
+    public record PushMessage(String token, String title, String body) {
+    }
+
+    /**
+     * Outcome of one push message; errorCode is null on success or when FCM gave none
+     */
+    public record PushResult(String token, boolean success, MessagingErrorCode errorCode, String error) {
+
+        /**
+         * True when FCM rejected the token itself, so retrying it can never succeed
+         * Whole-call failures carry no per-token error code and are never treated as invalid tokens.
+         * INVALID_ARGUMENT is not included: it is also returned for a bad payload, which says nothing about the token
+         */
+        public boolean isTokenInvalid() {
+            return errorCode == MessagingErrorCode.UNREGISTERED
+                    || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH;
+        }
+
+        /**
+         * True when FCM rejected the message as malformed, so retrying it unchanged can never succeed
+         */
+        public boolean isMessageInvalid() {
+            return errorCode == MessagingErrorCode.INVALID_ARGUMENT;
+        }
+
+        /**
+         * True when the failure lies with FCM (outage, throttling) rather than the message or token
+         */
+        public boolean isProviderError() {
+            return errorCode == MessagingErrorCode.UNAVAILABLE
+                    || errorCode == MessagingErrorCode.INTERNAL
+                    || errorCode == MessagingErrorCode.QUOTA_EXCEEDED;
+        }
+
+        static PushResult success(String token) {
+            return new PushResult(token, true, null, null);
+        }
+
+        static PushResult failure(String token, MessagingErrorCode errorCode, String error) {
+            return new PushResult(token, false, errorCode, error);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,160 @@
+// FuzzyTokenIndex.java
+package com.CourtAssist.service.notification;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+
+import java.util.*;
+
+/**
+ * Lookup structure for name tokens that answers "which indexed tokens match this token"
+ * with the same rules as {@link NameMatchingService#isTokenMatch} without scanning every token:
+ * - a BK-tree over edit distance finds fuzzy matches within the similarity radius
+ * - a trigram index finds indexed tokens that contain the query token
+ * - substrings of the query are looked up directly for tokens contained in the query
+ * Every candidate is confirmed with {@link NameMatchingService#isTokenMatch}.
+ */
+public class FuzzyTokenIndex {
+
+    private static final int GRAM_SIZE = 3;
+
+    private final NameMatchingService nameMatchingService;
+    private final LevenshteinDistance levenshtein = LevenshteinDistance.getDefaultInstance();
+
+    private final Set<String> tokens = new HashSet<>();
+    private final Map<String, List<String>> tokensByTrigram = new HashMap<>();
+    private final Set<Integer> tokenLengths = new TreeSet<>();
+    private BkNode root;
+
+    FuzzyTokenIndex(Collection<String> tokens, NameMatchingService nameMatchingService) {
+        this.nameMatchingService = nameMatchingService;
+        tokens.forEach(this::add);
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    private void add(String token) {
+        if (token.length() < GRAM_SIZE || !tokens.add(token)) return;
+
+        tokenLengths.add(token.length());
+        for (String trigram : trigrams(token)) {
+            tokensByTrigram.computeIfAbsent(trigram, k -> new ArrayList<>()).add(token);
+        }
+
+        if (root == null) {
+            root = new BkNode(token);
+            return;
+        }
+
+        BkNode node = root;
+        while (true) {
+            int distance = levenshtein.apply(token, node.token);
+            BkNode child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new BkNode(token));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Finds all indexed tokens that match the given token
+     *
+     * @param query Token to look up
+     * @return Matching indexed tokens
+     */
+    public Set<String> findMatches(String query) {
+        Set<String> matches = new HashSet<>();
+        if (root == null || query.length() < GRAM_SIZE) return matches;
+
+        if (tokens.contains(query)) {
+            matches.add(query);
+        }
+
+        addTokensContainedIn(query, matches);
+        addTokensContaining(query, matches);
+        addTokensWithinDistance(query, matches);
+
+        return matches;
+    }
+
+    /**
+     * Indexed tokens that are substrings of the query
+     */
+    private void addTokensContainedIn(String query, Set<String> matches) {
+        for (int length : tokenLengths) {
+            if (length >= query.length()) break;
+            for (int start = 0; start + length <= query.length(); start++) {
+                String part = query.substring(start, start + length);
+                if (tokens.contains(part)) {
+                    matches.add(part);
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexed tokens that contain the query, found through the rarest query trigram
+     */
+    private void addTokensContaining(String query, Set<String> matches) {
+        List<String> rarest = null;
+        for (String trigram : trigrams(query)) {
+            List<String> postings = tokensByTrigram.get(trigram);
+            if (postings == null) return;
+            if (rarest == null || postings.size() < rarest.size()) {
+                rarest = postings;
+            }
+        }
+        if (rarest == null) return;
+
+        for (String token : rarest) {
+            if (token.length() > query.length() && token.contains(query)) {
+                matches.add(token);
+            }
+        }
+    }
+
+    /**
+     * Indexed tokens within the fuzzy similarity radius of the query
+     */
+    private void addTokensWithinDistance(String query, Set<String> matches) {
+        int radius = nameMatchingService.maxTokenDistance(query.length());
+
+        Deque<BkNode> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            BkNode node = pending.pop();
+            int distance = levenshtein.apply(query, node.token);
+
+            if (distance <= radius && !matches.contains(node.token)
+                    && nameMatchingService.isTokenMatch(query, node.token)) {
+                matches.add(node.token);
+            }
+
+            for (Map.Entry<Integer, BkNode> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= radius) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+    }
+
+    private static Set<String> trigrams(String token) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= token.length(); i++) {
+            trigrams.add(token.substring(i, i + GRAM_SIZE));
+        }
+        return trigrams;
+    }
+
+    private static class BkNode {
+        private final String token;
+        private final Map<Integer, BkNode> children = new HashMap<>();
+
+        BkNode(String token) {
+            this.token = token;
+        }
+    }
+}
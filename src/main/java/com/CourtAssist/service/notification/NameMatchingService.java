@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 @Service
@@ -15,14 +16,27 @@ public class NameMatchingService {
     private static final Logger logger = LoggerFactory.getLogger(NameMatchingService.class);
 
     private static final double SIMILARITY_THRESHOLD = 0.7;
-    private static final Set<String> LEGAL_NOISE_WORDS = Set.of(
+    static final Set<String> LEGAL_NOISE_WORDS = Set.of(
             "m/s", "m/s.", "memorandum", "memo", "filed", "by", "special", "government",
             "pleader", "cgc", "court", "notice", "public", "prosecutor", "additional",
             "addl", "learned", "advocate", "for", "r1", "r2", "usr", "dt", "the", "and"
     );
 
     private static final Pattern NAME_DELIMITERS = Pattern.compile("[,\\s&.]+");
-    private final LevenshteinDistance levenshtein = new LevenshteinDistance();
+
+    // Threshold-bounded Levenshtein instances, indexed by the maximum distance they compute
+    private static final int MAX_CACHED_THRESHOLD = 32;
+    private final LevenshteinDistance[] boundedLevenshtein = new LevenshteinDistance[MAX_CACHED_THRESHOLD + 1];
+
+    // Normalized court data name fields keyed by the raw field, shared by all subscriptions in a run
+    private static final int MAX_CACHED_TARGETS = 50_000;
+    private final Map<String, NormalizedTarget> normalizedTargetCache = new ConcurrentHashMap<>();
+
+    public NameMatchingService() {
+        for (int threshold = 0; threshold <= MAX_CACHED_THRESHOLD; threshold++) {
+            boundedLevenshtein[threshold] = new LevenshteinDistance(threshold);
+        }
+    }
 
     /**
      * Enhanced name matching that handles partial matches and noisy data
@@ -51,10 +65,58 @@ public class NameMatchingService {
         return false;
     }
 
+    /**
+     * Extracts the comparable tokens of a subscription's search name
+     * Uses the same normalization as {@link #matchesAnyName}
+     */
+    public Set<String> extractSearchTokens(String searchName) {
+        return extractNameTokens(normalizeSearchName(searchName));
+    }
+
+    /**
+     * Extracts the comparable tokens of all given court data name fields
+     * Uses the same normalization as {@link #matchesAnyName}
+     */
+    public Set<String> extractTargetTokens(String... nameFields) {
+        Set<String> tokens = new HashSet<>();
+        for (String nameField : nameFields) {
+            if (StringUtils.hasText(nameField)) {
+                tokens.addAll(normalizedTarget(nameField).tokens());
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Drops all memoized court data name fields, called once a processing run is over
+     */
+    public void clearTargetCache() {
+        normalizedTargetCache.clear();
+    }
+
+    /**
+     * Builds a fuzzy lookup index over the given name tokens
+     * Matches returned by the index follow the same rules as {@link #isTokenMatch}
+     */
+    public FuzzyTokenIndex buildTokenIndex(Collection<String> tokens) {
+        return new FuzzyTokenIndex(tokens, this);
+    }
+
+    /**
+     * Upper bound of the edit distance at which a token of the given length can still
+     * reach SIMILARITY_THRESHOLD against a token of any length
+     * From distance <= (1 - threshold) * maxLength and maxLength <= queryLength + distance
+     */
+    int maxTokenDistance(int queryLength) {
+        double maxDissimilarity = 1.0 - SIMILARITY_THRESHOLD;
+        return (int) Math.ceil(maxDissimilarity * queryLength / SIMILARITY_THRESHOLD);
+    }
+
     private boolean matchesSingleName(String searchName, String targetName) {
         if (!StringUtils.hasText(targetName)) return false;
 
-        String normalizedTarget = normalizeTargetName(targetName);
+        NormalizedTarget target = normalizedTarget(targetName);
+        String normalizedTarget = target.text();
         if (normalizedTarget.isEmpty()) return false;
 
         // Strategy 1: Direct containment check
@@ -65,7 +127,7 @@ public class NameMatchingService {
 
         // Strategy 2: Token-based matching
         Set<String> searchTokens = extractNameTokens(searchName);
-        Set<String> targetTokens = extractNameTokens(normalizedTarget);
+        Set<String> targetTokens = target.tokens();
 
         for (String searchToken : searchTokens) {
             for (String targetToken : targetTokens) {
@@ -91,23 +153,58 @@ public class NameMatchingService {
                 .trim();
     }
 
+    /**
+     * Returns the memoized normalized form of a court data name field
+     */
+    private NormalizedTarget normalizedTarget(String name) {
+        NormalizedTarget cached = normalizedTargetCache.get(name);
+        if (cached != null) return cached;
+
+        if (normalizedTargetCache.size() >= MAX_CACHED_TARGETS) {
+            normalizedTargetCache.clear();
+        }
+
+        String text = normalizeTargetName(name);
+        NormalizedTarget target = new NormalizedTarget(text, Collections.unmodifiableSet(extractNameTokens(text)));
+        normalizedTargetCache.put(name, target);
+        return target;
+    }
+
     /**
      * Normalize target name (from court data) - more aggressive cleaning
+     * Single pass: lower-cases, drops non alphanumeric characters, splits on whitespace
+     * and removes legal procedural words, without compiling any regex
      */
-    private String normalizeTargetName(String name) {
+    static String normalizeTargetName(String name) {
         if (!StringUtils.hasText(name)) return "";
 
-        String normalized = name.toLowerCase()
-                .replaceAll("[^a-zA-Z0-9\\s]", "")
-                .replaceAll("\\s+", " ")
-                .trim();
+        String lower = name.toLowerCase();
+        StringBuilder normalized = new StringBuilder(lower.length());
+        StringBuilder word = new StringBuilder();
 
-        // Remove common legal procedural text
-        for (String noiseWord : LEGAL_NOISE_WORDS) {
-            normalized = normalized.replaceAll("\\b" + noiseWord + "\\b", "");
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                word.append(c);
+            } else if (isWhitespace(c) && word.length() > 0) {
+                // Remove common legal procedural text
+                String completed = word.toString();
+                if (!LEGAL_NOISE_WORDS.contains(completed)) {
+                    if (normalized.length() > 0) normalized.append(' ');
+                    normalized.append(completed);
+                }
+                word.setLength(0);
+            }
         }
 
-        return normalized.replaceAll("\\s+", " ").trim();
+        return normalized.toString();
+    }
+
+    /**
+     * Same character class as regex {@code \s}
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     private Set<String> extractNameTokens(String name) {
@@ -125,17 +222,40 @@ public class NameMatchingService {
         return tokens;
     }
 
-    private boolean isTokenMatch(String token1, String token2) {
+    /**
+     * Checks whether two name tokens match exactly, by containment or by fuzzy similarity
+     */
+    public boolean isTokenMatch(String token1, String token2) {
         if (token1.equals(token2)) return true;
 
         // Containment check
         if (token1.contains(token2) || token2.contains(token1)) return true;
 
-        // Fuzzy similarity check
-        int distance = levenshtein.apply(token1, token2);
+        // Fuzzy similarity check, giving up as soon as the distance exceeds what the threshold allows
         double maxLength = Math.max(token1.length(), token2.length());
+        if (Math.abs(token1.length() - token2.length()) > (1.0 - SIMILARITY_THRESHOLD) * maxLength) return false;
+
+        int maxDistance = (int) Math.ceil((1.0 - SIMILARITY_THRESHOLD) * maxLength);
+        int distance = levenshteinWithin(token1, token2, maxDistance);
+        if (distance < 0) return false;
+
         double similarity = 1.0 - (distance / maxLength);
 
         return similarity >= SIMILARITY_THRESHOLD;
     }
-}
\ No newline at end of file
+
+    /**
+     * Levenshtein distance that stops early once it exceeds maxDistance
+     *
+     * @return The distance, or -1 if it is greater than maxDistance
+     */
+    private int levenshteinWithin(String token1, String token2, int maxDistance) {
+        if (maxDistance <= MAX_CACHED_THRESHOLD) {
+            return boundedLevenshtein[maxDistance].apply(token1, token2);
+        }
+        return new LevenshteinDistance(maxDistance).apply(token1, token2);
+    }
+
+    private record NormalizedTarget(String text, Set<String> tokens) {
+    }
+}
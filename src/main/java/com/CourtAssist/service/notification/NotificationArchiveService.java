@@ -0,0 +1,298 @@
+package com.CourtAssist.service.notification;
+
+import com.CourtAssist.dto.ArchivedNotificationDTO;
+import com.CourtAssist.repository.NotificationCounterRepository;
+import com.CourtAssist.repository.NotificationOutboxRepository;
+import com.CourtAssist.repository.NotificationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cold storage for old notifications, so the notifications table and its indexes stay small
+ * Notifications are appended as NDJSON lines to gzip segments on local disk, one segment per user
+ * and month of creation, with users spread over shard directories:
+ *   {dir}/07/1234/2025-03.ndjson.gz
+ * so reading a user's archive never decompresses another user's notifications.
+ * Each append is a complete gzip member, fsynced before the rows are deleted in the same
+ * transaction. If that transaction rolls back, the lines stay behind while the rows remain in the
+ * table; readers drop lines whose id is still in the table, and lines repeated by a later archive run.
+ * Retention archives a deleted case's notifications whatever their age, so archived and table rows
+ * of a user can interleave in time; NotificationService merges both by (created_at, id) on every page.
+ * The user's counter row records the newest archived creation time, and only users who have one
+ * have their archive read at all.
+ */
+@Service
+public class NotificationArchiveService {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationArchiveService.class);
+
+    private static final Comparator<ArchivedNotificationDTO> NEWEST_FIRST =
+            Comparator.comparing(ArchivedNotificationDTO::getCreatedAt)
+                    .thenComparing(ArchivedNotificationDTO::getId)
+                    .reversed();
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationCounterRepository counterRepository;
+    private final UnreadCounterService unreadCounterService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate batchTransaction;
+    private final Path archiveDir;
+    private final int shards;
+    private final int afterDays;
+    private final int batchSize;
+
+    public NotificationArchiveService(NotificationRepository notificationRepository,
+                                      NotificationOutboxRepository outboxRepository,
+                                      NotificationCounterRepository counterRepository,
+                                      UnreadCounterService unreadCounterService,
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${notification.archive.dir:./data/notification-archive}") String archiveDir,
+                                      @Value("${notification.archive.shards:32}") int shards,
+                                      @Value("${notification.archive.after-days:90}") int afterDays,
+                                      @Value("${notification.archive.batch-size:1000}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.outboxRepository = outboxRepository;
+        this.counterRepository = counterRepository;
+        this.unreadCounterService = unreadCounterService;
+        this.objectMapper = objectMapper;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.archiveDir = Paths.get(archiveDir);
+        this.shards = shards;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Moves notifications created more than after-days ago to the archive, batchSize per transaction
+     */
+    @Scheduled(cron = "${notification.archive.cron:0 0 2 * * ?}")
+    public void archiveOldNotifications() {
+        LocalDateTime createdBefore = LocalDateTime.now().minusDays(afterDays);
+        long startTime = System.currentTimeMillis();
+        long archived = 0;
+        long lastId = 0;
+
+        while (true) {
+            List<ArchivedNotificationDTO> batch = notificationRepository.findArchiveBatchCreatedBefore(
+                    lastId, createdBefore, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            batchTransaction.executeWithoutResult(status -> archiveAndDelete(batch));
+            archived += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        long elapsedMs = Math.max(1, System.currentTimeMillis() - startTime);
+        logger.info("Archived {} notifications created before {} in {} ms ({} rows/s)",
+                archived, createdBefore, elapsedMs, archived * 1000 / elapsedMs);
+    }
+
+    /**
+     * Appends the notifications to the archive, then deletes them with their outbox rows, takes
+     * their unread ones off the users' counters and marks the users as having archived notifications
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void archiveAndDelete(List<ArchivedNotificationDTO> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        append(records);
+
+        // Counter rows before notifications as every other writer does, in user id order between batches
+        Map<Long, List<ArchivedNotificationDTO>> recordsByUserId = new TreeMap<>(records.stream()
+                .collect(Collectors.groupingBy(ArchivedNotificationDTO::getUserId)));
+        recordsByUserId.keySet().forEach(unreadCounterService::lock);
+
+        List<Long> ids = records.stream().map(ArchivedNotificationDTO::getId).toList();
+        outboxRepository.deleteByNotificationIdIn(ids);
+
+        // The records were read without locks, and another archiver or a markAsRead may have got to
+        // some of them since; the counters only lose the unread rows this transaction deletes
+        LocalDateTime now = LocalDateTime.now();
+        recordsByUserId.forEach((userId, userRecords) -> {
+            List<Long> userIds = userRecords.stream().map(ArchivedNotificationDTO::getId).toList();
+            unreadCounterService.add(userId, -notificationRepository.deleteUnreadByUserIdAndIdIn(userId, userIds));
+            counterRepository.advanceArchivedUpTo(userId, userRecords.stream()
+                    .map(ArchivedNotificationDTO::getCreatedAt)
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow(), now);
+        });
+        notificationRepository.deleteByIdIn(ids);
+    }
+
+    /**
+     * A user's archived notifications strictly older than (createdAt, id), newest first
+     * Users without archived notifications are answered from their counter row without touching the disk
+     *
+     * @param isRead Only read (true) or unread (false) notifications, or null for all
+     * @param limit Maximum number of notifications to return
+     */
+    public List<ArchivedNotificationDTO> readPage(Long userId, LocalDateTime createdAt, long id,
+                                                  Boolean isRead, int limit) {
+        return read(userId, createdAt, id, isRead, null, limit);
+    }
+
+    /**
+     * A user's archived notifications created within after-days, newest first
+     * These were archived early by retention, with their case, rather than by age
+     */
+    public List<ArchivedNotificationDTO> readRecent(Long userId) {
+        return read(userId, LocalDateTime.MAX, Long.MAX_VALUE, null,
+                LocalDateTime.now().minusDays(afterDays), Integer.MAX_VALUE);
+    }
+
+    private List<ArchivedNotificationDTO> read(Long userId, LocalDateTime createdAt, long id, Boolean isRead,
+                                               LocalDateTime createdFrom, int limit) {
+        List<ArchivedNotificationDTO> page = new ArrayList<>();
+        if (counterRepository.findArchivedUpToByUserId(userId).isEmpty()) {
+            return page;
+        }
+        YearMonth cursorMonth = YearMonth.from(createdAt);
+        YearMonth fromMonth = createdFrom == null ? null : YearMonth.from(createdFrom);
+
+        for (YearMonth month : listMonthsNewestFirst(userId)) {
+            if (page.size() >= limit || (fromMonth != null && month.isBefore(fromMonth))) {
+                break;
+            }
+            if (month.isAfter(cursorMonth)) {
+                continue;
+            }
+            Map<Long, ArchivedNotificationDTO> byId = new LinkedHashMap<>();
+            for (ArchivedNotificationDTO record : readSegment(segmentPath(userId, month))) {
+                if (userId.equals(record.getUserId())
+                        && isBefore(record, createdAt, id)
+                        && (createdFrom == null || !record.getCreatedAt().isBefore(createdFrom))
+                        && (isRead == null || isRead.equals(record.getIsRead()))) {
+                    byId.put(record.getId(), record);
+                }
+            }
+            if (byId.isEmpty()) {
+                continue;
+            }
+            // Left behind by a rolled back archive transaction; the table still lists them
+            notificationRepository.findExistingIds(byId.keySet()).forEach(byId::remove);
+            byId.values().stream()
+                    .sorted(NEWEST_FIRST)
+                    .limit(limit - page.size())
+                    .forEach(page::add);
+        }
+        return page;
+    }
+
+    private synchronized void append(List<ArchivedNotificationDTO> records) {
+        Map<Path, List<ArchivedNotificationDTO>> bySegment = new HashMap<>();
+        for (ArchivedNotificationDTO record : records) {
+            bySegment.computeIfAbsent(segmentPath(record.getUserId(), YearMonth.from(record.getCreatedAt())),
+                    path -> new ArrayList<>()).add(record);
+        }
+
+        try {
+            for (Map.Entry<Path, List<ArchivedNotificationDTO>> segment : bySegment.entrySet()) {
+                Files.createDirectories(segment.getKey().getParent());
+                try (FileOutputStream file = new FileOutputStream(segment.getKey().toFile(), true)) {
+                    GZIPOutputStream gzip = new GZIPOutputStream(file);
+                    Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+                    for (ArchivedNotificationDTO record : segment.getValue()) {
+                        writer.write(objectMapper.writeValueAsString(record));
+                        writer.write('\n');
+                    }
+                    writer.flush();
+                    gzip.finish();
+                    file.getChannel().force(true);
+                }
+            }
+        } catch (IOException e) {
+            // Fails the transaction, so nothing is deleted that was not archived
+            throw new UncheckedIOException("Failed to write notification archive", e);
+        }
+    }
+
+    private List<ArchivedNotificationDTO> readSegment(Path segment) {
+        List<ArchivedNotificationDTO> records = new ArrayList<>();
+        if (!Files.exists(segment)) {
+            return records;
+        }
+        try (InputStream in = Files.newInputStream(segment);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(
+                     new GZIPInputStream(in), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    records.add(objectMapper.readValue(line, ArchivedNotificationDTO.class));
+                }
+            }
+        } catch (EOFException e) {
+            // A member still being appended; the lines before it are complete
+        } catch (IOException e) {
+            logger.error("Failed to read notification archive segment {}: {}", segment, e.getMessage());
+        }
+        return records;
+    }
+
+    private List<YearMonth> listMonthsNewestFirst(Long userId) {
+        Path userDir = userDir(userId);
+        if (!Files.isDirectory(userDir)) {
+            return List.of();
+        }
+        try (Stream<Path> segments = Files.list(userDir)) {
+            return segments.map(segment -> segment.getFileName().toString())
+                    .filter(name -> name.matches("\\d{4}-\\d{2}\\.ndjson\\.gz"))
+                    .map(name -> YearMonth.parse(name.substring(0, 7)))
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list notification archive of user " + userId, e);
+        }
+    }
+
+    private Path userDir(Long userId) {
+        return archiveDir.resolve(String.format("%02d", Math.floorMod(userId, shards))).resolve(userId.toString());
+    }
+
+    private Path segmentPath(Long userId, YearMonth month) {
+        return userDir(userId).resolve(month + ".ndjson.gz");
+    }
+
+    private static boolean isBefore(ArchivedNotificationDTO record, LocalDateTime createdAt, long id) {
+        int compare = record.getCreatedAt().compareTo(createdAt);
+        return compare < 0 || (compare == 0 && record.getId() < id);
+    }
+}
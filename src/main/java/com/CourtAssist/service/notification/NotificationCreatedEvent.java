@@ -0,0 +1,9 @@
+package com.CourtAssist.service.notification;
+
+import com.CourtAssist.dto.NotificationDTO;
+
+/**
+ * Published when a notification is saved; delivered to live streams once the transaction commits
+ */
+public record NotificationCreatedEvent(Long userId, NotificationDTO notification) {
+}
@@ -0,0 +1,373 @@
+// NotificationDispatchService.java
+package com.CourtAssist.service.notification;
+
+import com.CourtAssist.config.ExecutionModel;
+import com.CourtAssist.model.NotificationOutbox;
+import com.CourtAssist.repository.FcmTokenRepository;
+import com.CourtAssist.repository.NotificationOutboxRepository;
+import com.CourtAssist.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the notification outbox in the background
+ * Each channel has its own bounded worker pool, so a slow SMS gateway does not hold up push or email.
+ * Push entries are delivered a claimed batch at a time through FCM batch sends; tokens FCM reports
+ * as unregistered or belonging to another sender are failed without retry and removed from fcm_tokens
+ * after the batch; messages FCM rejects as invalid are failed without retry but keep their token.
+ * SMS entries are handed to the SMS batch sender together, so identical texts share a request.
+ * Pending rows are claimed (PENDING -> IN_PROGRESS) in a short transaction, delivered outside of it,
+ * and then marked SENT, or re-queued as PENDING with a jittered exponential backoff until max-attempts
+ * is reached and marked FAILED.
+ * While a channel's circuit breaker is open nothing is claimed for it; once it half-opens a single
+ * entry is claimed as the trial call. Entries caught in flight by an opening circuit are re-queued
+ * without using up an attempt.
+ * Each claim records the claiming instance. Entries stay IN_PROGRESS while their claim is younger than
+ * lease-ms; after that, or when the claiming instance restarts, they are returned to pending.
+ */
+@Service
+public class NotificationDispatchService {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatchService.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final long SMS_RESULT_TIMEOUT_SECONDS = 120;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationHelperService notificationHelperService;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final DeliveryResilience resilience;
+    private final ExecutionModel executionModel;
+    private final TransactionTemplate claimTransaction;
+    private final int maxAttempts;
+    private final String instanceId;
+    private final long leaseMillis;
+
+    private final Map<NotificationOutbox.Channel, ExecutorService> workers = new EnumMap<>(NotificationOutbox.Channel.class);
+    // Claimed but not yet finished deliveries per channel; bounds what a poll may claim
+    private final Map<NotificationOutbox.Channel, Semaphore> inFlight = new EnumMap<>(NotificationOutbox.Channel.class);
+
+    public NotificationDispatchService(NotificationOutboxRepository outboxRepository,
+                                       NotificationRepository notificationRepository,
+                                       NotificationHelperService notificationHelperService,
+                                       FcmTokenRepository fcmTokenRepository,
+                                       DeliveryResilience resilience,
+                                       ExecutionModel executionModel,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${notification.dispatch.batch-size:100}") int batchSize,
+                                       @Value("${notification.dispatch.push.batch-size:2000}") int pushBatchSize,
+                                       @Value("${notification.dispatch.max-attempts:5}") int maxAttempts,
+                                       @Value("${notification.dispatch.instance-id:}") String instanceId,
+                                       @Value("${notification.dispatch.lease-ms:900000}") long leaseMillis,
+                                       @Value("${notification.dispatch.push.threads:4}") int pushThreads,
+                                       @Value("${notification.dispatch.email.threads:2}") int emailThreads,
+                                       @Value("${notification.dispatch.sms.threads:1}") int smsThreads) {
+        this.outboxRepository = outboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.notificationHelperService = notificationHelperService;
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.resilience = resilience;
+        this.executionModel = executionModel;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.instanceId = instanceId.isBlank() ? defaultInstanceId() : instanceId;
+        this.leaseMillis = leaseMillis;
+
+        // A push claim is split into sendEach calls of 500 that FcmService runs in parallel
+        registerChannel(NotificationOutbox.Channel.PUSH, pushThreads, pushBatchSize);
+        registerChannel(NotificationOutbox.Channel.EMAIL, emailThreads, batchSize);
+        registerChannel(NotificationOutbox.Channel.SMS, smsThreads, batchSize);
+    }
+
+    private void registerChannel(NotificationOutbox.Channel channel, int threads, int capacity) {
+        String prefix = "dispatch-" + channel.name().toLowerCase() + "-";
+        // Bounded queue: every queued task holds at least one in-flight permit, so it never fills up
+        workers.put(channel, executionModel.newBoundedExecutor(prefix, threads, capacity));
+        inFlight.put(channel, new Semaphore(capacity));
+    }
+
+    /**
+     * The host name, so that a restarted instance recognises its own claims; must be unique per instance
+     */
+    private static String defaultInstanceId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    /**
+     * Entries left IN_PROGRESS by this instance's previous shutdown, or by any instance whose claim
+     * outlived the lease, are made pending again
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterruptedDeliveries() {
+        releaseClaims(instanceId);
+    }
+
+    /**
+     * Returns entries whose claim outlived the lease, e.g. those of an instance that died, to pending
+     */
+    @Scheduled(fixedDelayString = "${notification.dispatch.lease-check-ms:60000}")
+    public void recoverExpiredClaims() {
+        releaseClaims(null);
+    }
+
+    private void releaseClaims(String claimedBy) {
+        LocalDateTime now = LocalDateTime.now();
+        int recovered = outboxRepository.releaseClaims(NotificationOutbox.Status.IN_PROGRESS, NotificationOutbox.Status.PENDING,
+                claimedBy, now.minus(Duration.ofMillis(leaseMillis)), now);
+        if (recovered > 0) {
+            logger.info("Returned {} interrupted outbox entries to pending", recovered);
+        }
+    }
+
+    /**
+     * Claims pending outbox entries of every channel and hands them to the channel workers
+     */
+    @Scheduled(fixedDelayString = "${notification.dispatch.poll-interval-ms:5000}")
+    public void dispatchPending() {
+        for (NotificationOutbox.Channel channel : NotificationOutbox.Channel.values()) {
+            try {
+                dispatchChannel(channel);
+            } catch (Exception e) {
+                logger.error("Failed to dispatch {} notifications: {}", channel, e.getMessage());
+            }
+        }
+    }
+
+    private void dispatchChannel(NotificationOutbox.Channel channel) {
+        int capacity = inFlight.get(channel).availablePermits();
+        if (capacity == 0) return;
+
+        CircuitBreaker breaker = resilience.breaker(channel);
+        if (!breaker.tryAcquire()) {
+            logger.debug("{} circuit open, not dispatching for another {} ms", channel, breaker.remainingOpenMillis());
+            return;
+        }
+        boolean trial = breaker.getState() == CircuitBreaker.State.HALF_OPEN;
+
+        List<NotificationOutbox> claimed = claim(channel, trial ? 1 : capacity);
+        if (claimed.isEmpty()) {
+            if (trial) breaker.releaseTrial();
+            return;
+        }
+
+        logger.debug("Dispatching {} {} notifications", claimed.size(), channel);
+        if (channel == NotificationOutbox.Channel.PUSH) {
+            submit(channel, claimed.size(), () -> deliverPush(claimed));
+            return;
+        }
+        if (channel == NotificationOutbox.Channel.SMS) {
+            submit(channel, claimed.size(), () -> deliverSms(claimed));
+            return;
+        }
+        for (NotificationOutbox entry : claimed) {
+            submit(channel, 1, () -> deliver(entry));
+        }
+    }
+
+    /**
+     * Runs a delivery task on the channel's workers, holding one in-flight permit per entry
+     */
+    private void submit(NotificationOutbox.Channel channel, int entries, Runnable task) {
+        Semaphore permits = inFlight.get(channel);
+        permits.acquireUninterruptibly(entries);
+        try {
+            workers.get(channel).execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release(entries);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Executor shut down; the entries are recovered as pending on the next start or once the lease expires
+            permits.release(entries);
+            throw e;
+        }
+    }
+
+    private List<NotificationOutbox> claim(NotificationOutbox.Channel channel, int limit) {
+        List<NotificationOutbox> claimed = claimTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationOutbox> entries = outboxRepository.findDueByChannelAndStatus(
+                    channel, NotificationOutbox.Status.PENDING, now, PageRequest.of(0, limit));
+            for (NotificationOutbox entry : entries) {
+                entry.setStatus(NotificationOutbox.Status.IN_PROGRESS);
+                entry.setClaimedBy(instanceId);
+                entry.setUpdatedAt(now);
+            }
+            return entries;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void deliver(NotificationOutbox entry) {
+        CircuitBreaker breaker = resilience.breaker(entry.getChannel());
+        if (breaker.getState() == CircuitBreaker.State.OPEN) {
+            requeue(entry, breaker.remainingOpenMillis());
+            return;
+        }
+
+        try {
+            notificationHelperService.deliver(entry);
+        } catch (Exception e) {
+            if (breaker.recordFailure()) {
+                logger.warn("{} circuit opened after repeated failures: {}", entry.getChannel(), e.getMessage());
+            }
+            recordFailure(entry, e.getMessage());
+            return;
+        }
+        breaker.recordSuccess();
+        recordSuccess(entry);
+    }
+
+    private void deliverPush(List<NotificationOutbox> entries) {
+        CircuitBreaker breaker = resilience.breaker(NotificationOutbox.Channel.PUSH);
+        List<FcmService.PushResult> results;
+        try {
+            results = notificationHelperService.deliverPush(entries);
+        } catch (Exception e) {
+            breaker.recordFailure();
+            entries.forEach(entry -> recordFailure(entry, e.getMessage()));
+            return;
+        }
+
+        // Rejected tokens are the device's problem; only failures without any accepted message count against FCM
+        if (results.stream().anyMatch(r -> r.success() || r.errorCode() != null && !r.isProviderError())) {
+            breaker.recordSuccess();
+        } else if (breaker.recordFailure()) {
+            logger.warn("PUSH circuit opened after repeated FCM failures");
+        }
+
+        Set<String> invalidTokens = new HashSet<>();
+        for (int i = 0; i < entries.size(); i++) {
+            FcmService.PushResult result = results.get(i);
+            if (result.success()) {
+                recordSuccess(entries.get(i));
+            } else if (result.isTokenInvalid()) {
+                invalidTokens.add(result.token());
+                recordPermanentFailure(entries.get(i), result.errorCode() + ": " + result.error());
+            } else if (result.isMessageInvalid()) {
+                recordPermanentFailure(entries.get(i), result.errorCode() + ": " + result.error());
+            } else {
+                recordFailure(entries.get(i), result.error());
+            }
+        }
+
+        if (!invalidTokens.isEmpty()) {
+            int removed = fcmTokenRepository.deleteByFcmTokenIn(invalidTokens);
+            logger.info("Removed {} FCM tokens rejected by FCM as unregistered or sender mismatch", removed);
+        }
+    }
+
+    private void deliverSms(List<NotificationOutbox> entries) {
+        List<CompletableFuture<Void>> results = notificationHelperService.deliverSms(entries);
+        for (int i = 0; i < entries.size(); i++) {
+            try {
+                results.get(i).get(SMS_RESULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // Shutting down; hand the unfinished part of the batch back instead of waiting for the lease
+                entries.subList(i, entries.size()).forEach(entry -> requeue(entry, 0));
+                return;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof DeliveryResilience.CircuitOpenException) {
+                    requeue(entries.get(i), resilience.breaker(NotificationOutbox.Channel.SMS).remainingOpenMillis());
+                } else {
+                    recordFailure(entries.get(i), e.getCause().getMessage());
+                }
+                continue;
+            } catch (TimeoutException e) {
+                recordFailure(entries.get(i), "Timed out waiting for the SMS batch");
+                continue;
+            }
+            recordSuccess(entries.get(i));
+        }
+    }
+
+    private void recordSuccess(NotificationOutbox entry) {
+        outboxRepository.updateDeliveryStatus(entry.getId(), NotificationOutbox.Status.SENT,
+                entry.getAttempts() + 1, null, null, LocalDateTime.now());
+
+        Long notificationId = entry.getNotification().getId();
+        if (outboxRepository.countByNotificationIdAndStatusNot(notificationId, NotificationOutbox.Status.SENT) == 0) {
+            if (entry.getDigestDate() != null) {
+                notificationRepository.markDigestAsSent(notificationId, entry.getDigestDate());
+            } else {
+                notificationRepository.markAsSent(notificationId);
+            }
+        }
+    }
+
+    private void recordFailure(NotificationOutbox entry, String error) {
+        int attempts = entry.getAttempts() + 1;
+        LocalDateTime now = LocalDateTime.now();
+        if (attempts >= maxAttempts) {
+            logger.warn("{} delivery for outbox entry {} failed (attempt {}/{}), giving up: {}",
+                    entry.getChannel(), entry.getId(), attempts, maxAttempts, error);
+            outboxRepository.updateDeliveryStatus(entry.getId(), NotificationOutbox.Status.FAILED, attempts,
+                    truncate(error), null, now);
+            return;
+        }
+
+        long delay = resilience.requeueDelayMillis(attempts);
+        logger.warn("{} delivery for outbox entry {} failed (attempt {}/{}), retrying in {} s: {}",
+                entry.getChannel(), entry.getId(), attempts, maxAttempts, delay / 1000, error);
+        outboxRepository.updateDeliveryStatus(entry.getId(), NotificationOutbox.Status.PENDING, attempts,
+                truncate(error), now.plus(Duration.ofMillis(delay)), now);
+    }
+
+    /**
+     * Returns an entry to the queue without counting an attempt, e.g. when its channel's circuit opened
+     */
+    private void requeue(NotificationOutbox entry, long delayMillis) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.updateDeliveryStatus(entry.getId(), NotificationOutbox.Status.PENDING, entry.getAttempts(),
+                entry.getLastError(), now.plus(Duration.ofMillis(delayMillis)), now);
+    }
+
+    private void recordPermanentFailure(NotificationOutbox entry, String error) {
+        logger.debug("{} delivery for outbox entry {} failed permanently: {}", entry.getChannel(), entry.getId(), error);
+        outboxRepository.updateDeliveryStatus(entry.getId(), NotificationOutbox.Status.FAILED,
+                entry.getAttempts() + 1, truncate(error), null, LocalDateTime.now());
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) return message;
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.values().forEach(ExecutorService::shutdownNow);
+    }
+}
@@ -2,54 +2,192 @@
 package com.CourtAssist.service.notification;
 
 import com.CourtAssist.dto.NotificationMessageDTO;
+import com.CourtAssist.model.FcmToken;
+import com.CourtAssist.model.Notification;
+import com.CourtAssist.model.NotificationOutbox;
+import com.CourtAssist.model.Users;
+import com.CourtAssist.repository.NotificationOutboxRepository;
 import com.CourtAssist.service.contact.EmailService;
+import com.CourtAssist.service.contact.SmsBatchSender;
 import com.CourtAssist.service.contact.SmsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class NotificationHelperService {
     private static final Logger logger = LoggerFactory.getLogger(NotificationHelperService.class);
 
+    private static final String PUSH_TITLE = "Court Hearing Alert";
+    private static final String DIGEST_PUSH_TITLE = "Court Hearing Digest";
+
+    // Keeps a digest SMS within a few concatenated segments
+    private static final int MAX_DIGEST_SMS_LENGTH = 450;
+    private static final int MAX_DIGEST_PUSH_LENGTH = 240;
+
+    private static final DateTimeFormatter DIGEST_DATE = DateTimeFormatter.ofPattern("EEEE, d MMMM yyyy");
+    private static final DateTimeFormatter DIGEST_SHORT_DATE = DateTimeFormatter.ofPattern("d MMM");
+    private static final DateTimeFormatter DIGEST_TIME = DateTimeFormatter.ofPattern("h:mm a");
+
     private final EmailService emailService;
     private final SmsService smsService;
+    private final FcmService fcmService;
+    private final SmsBatchSender smsBatchSender;
+    private final ChannelRateLimiter rateLimiter;
+    private final NotificationOutboxRepository outboxRepository;
 
-    public NotificationHelperService(EmailService emailService, SmsService smsService) {
+    public NotificationHelperService(EmailService emailService, SmsService smsService, FcmService fcmService,
+                                     SmsBatchSender smsBatchSender, ChannelRateLimiter rateLimiter,
+                                     NotificationOutboxRepository outboxRepository) {
         this.emailService = emailService;
         this.smsService = smsService;
+        this.fcmService = fcmService;
+        this.smsBatchSender = smsBatchSender;
+        this.rateLimiter = rateLimiter;
+        this.outboxRepository = outboxRepository;
     }
 
-    public void sendHearingNotification(String email, String mobile, NotificationMessageDTO dto) {
-        int sentCount = 0;
+    /**
+     * Queues push, email and SMS deliveries for a saved notification
+     * Must run in the transaction that saved the notification, so both commit or neither does
+     *
+     * @return Number of deliveries queued
+     */
+    public int enqueueHearingNotification(Notification notification, String email, String mobile,
+                                          List<FcmToken> fcmTokens, NotificationMessageDTO dto) {
+        List<NotificationOutbox> entries = new ArrayList<>();
 
-        if (StringUtils.hasText(email)) {
-            try {
-                String subject = "Court Hearing Alert: " + dto.getCaseRef();
-                String body = dto.getFormattedMessage();
-                emailService.sendMail(email, subject, body);
-                sentCount++;
-                logger.debug("Email sent to {} for case {}", email, dto.getCaseRef());
-            } catch (Exception e) {
-                logger.error("Failed to send email to {}: {}", email, e.getMessage());
+        for (FcmToken fcmToken : fcmTokens) {
+            if (fcmToken != null && StringUtils.hasText(fcmToken.getFcmToken())) {
+                entries.add(outboxEntry(notification, NotificationOutbox.Channel.PUSH, fcmToken.getFcmToken(),
+                        PUSH_TITLE, dto.getFormattedMessage()));
             }
         }
 
+        if (StringUtils.hasText(email)) {
+            entries.add(outboxEntry(notification, NotificationOutbox.Channel.EMAIL, email,
+                    "Court Hearing Alert: " + dto.getCaseRef(), dto.getFormattedMessage()));
+        }
+
         if (StringUtils.hasText(mobile)) {
-            try {
-                String smsMessage = formatSmsMessage(dto);
-                smsService.sendSMS(mobile, smsMessage);
-                sentCount++;
-                logger.debug("SMS sent to {} for case {}", mobile, dto.getCaseRef());
-            } catch (Exception e) {
-                logger.error("Failed to send SMS to {}: {}", mobile, e.getMessage());
+            entries.add(outboxEntry(notification, NotificationOutbox.Channel.SMS, mobile,
+                    null, formatSmsMessage(dto)));
+        }
+
+        if (entries.isEmpty()) {
+            logger.warn("No notifications queued for case {} - no valid contact", dto.getCaseRef());
+            return 0;
+        }
+
+        outboxRepository.saveAll(entries);
+        return entries.size();
+    }
+
+    /**
+     * Queues one consolidated push, email and SMS for all of a digest user's notifications on a date
+     * The outbox entries reference the first notification; all of the user's notifications for the
+     * date are marked as sent once they are delivered
+     *
+     * @param notifications The user's unsent notifications for the date, in hearing time order
+     * @param fcmTokens Registered FCM tokens of the user
+     * @param date Hearing date the digest covers
+     * @return Number of deliveries queued
+     */
+    public int enqueueDigest(List<Notification> notifications, List<FcmToken> fcmTokens, LocalDate date) {
+        Notification anchor = notifications.get(0);
+        Users user = anchor.getUser();
+        List<NotificationOutbox> entries = new ArrayList<>();
+
+        String pushBody = formatDigestPush(notifications, date);
+        for (FcmToken fcmToken : fcmTokens) {
+            if (fcmToken != null && StringUtils.hasText(fcmToken.getFcmToken())) {
+                entries.add(outboxEntry(anchor, NotificationOutbox.Channel.PUSH, fcmToken.getFcmToken(),
+                        DIGEST_PUSH_TITLE, pushBody));
             }
         }
 
-        if (sentCount == 0) {
-            logger.warn("No notifications sent for case {} - no valid contact", dto.getCaseRef());
+        if (StringUtils.hasText(user.getEmail())) {
+            String subject = String.format("Court Hearing Digest: %d hearing%s on %s",
+                    notifications.size(), notifications.size() == 1 ? "" : "s", date.format(DIGEST_SHORT_DATE));
+            entries.add(outboxEntry(anchor, NotificationOutbox.Channel.EMAIL, user.getEmail(),
+                    subject, formatDigestEmail(notifications, date)));
+        }
+
+        if (StringUtils.hasText(user.getMobileNo())) {
+            entries.add(outboxEntry(anchor, NotificationOutbox.Channel.SMS, user.getMobileNo(),
+                    null, formatDigestSms(notifications, date)));
+        }
+
+        if (entries.isEmpty()) {
+            logger.warn("No digest queued for user {} - no valid contact", user.getUserId());
+            return 0;
+        }
+
+        entries.forEach(entry -> entry.setDigestDate(date));
+        outboxRepository.saveAll(entries);
+        return entries.size();
+    }
+
+    /**
+     * Delivers a single outbox entry over its channel
+     * Failures propagate so that the dispatcher can record them
+     */
+    public void deliver(NotificationOutbox entry) {
+        rateLimiter.acquire(entry.getChannel(), 1);
+        switch (entry.getChannel()) {
+            case PUSH -> fcmService.sendNotificationToToken(entry.getRecipient(), entry.getSubject(), entry.getBody());
+            case EMAIL -> emailService.deliverMail(entry.getRecipient(), entry.getSubject(), entry.getBody());
+            case SMS -> smsService.deliverSMS(entry.getRecipient(), entry.getBody());
+        }
+        logger.debug("{} delivered for outbox entry {}", entry.getChannel(), entry.getId());
+    }
+
+    /**
+     * Delivers push outbox entries through FCM batch sends
+     *
+     * @param entries PUSH entries to deliver
+     * @return One result per entry, in the same order
+     */
+    public List<FcmService.PushResult> deliverPush(List<NotificationOutbox> entries) {
+        List<FcmService.PushMessage> messages = new ArrayList<>(entries.size());
+        for (NotificationOutbox entry : entries) {
+            messages.add(new FcmService.PushMessage(entry.getRecipient(), entry.getSubject(), entry.getBody()));
+        }
+        rateLimiter.acquire(NotificationOutbox.Channel.PUSH, messages.size());
+        return fcmService.sendBatch(messages);
+    }
+
+    /**
+     * Queues SMS outbox entries on the batch sender, which sends identical texts in one request
+     * The SMS rate limit is applied by the batch sender per request
+     *
+     * @param entries SMS entries to deliver
+     * @return One future per entry, in the same order
+     */
+    public List<CompletableFuture<Void>> deliverSms(List<NotificationOutbox> entries) {
+        List<CompletableFuture<Void>> results = new ArrayList<>(entries.size());
+        for (NotificationOutbox entry : entries) {
+            results.add(smsBatchSender.send(entry.getRecipient(), entry.getBody()));
         }
+        return results;
+    }
+
+    private NotificationOutbox outboxEntry(Notification notification, NotificationOutbox.Channel channel,
+                                           String recipient, String subject, String body) {
+        NotificationOutbox entry = new NotificationOutbox();
+        entry.setNotification(notification);
+        entry.setChannel(channel);
+        entry.setRecipient(recipient);
+        entry.setSubject(subject);
+        entry.setBody(body);
+        return entry;
     }
 
     private String formatSmsMessage(NotificationMessageDTO dto) {
@@ -63,8 +201,89 @@ public class NotificationHelperService {
         );
     }
 
+    private String formatDigestPush(List<Notification> notifications, LocalDate date) {
+        StringBuilder sb = new StringBuilder()
+                .append(notifications.size()).append(" hearing").append(notifications.size() == 1 ? "" : "s")
+                .append(" on ").append(date.format(DIGEST_SHORT_DATE)).append(": ");
+        appendCompactList(sb, notifications, MAX_DIGEST_PUSH_LENGTH, false);
+        return sb.toString();
+    }
+
+    /**
+     * Compact multi-case SMS, e.g. "CourtAssist 18 Oct: 3 hearings. 123/2024 10:30 Ct Madurai; ..."
+     * Cases that do not fit are summarised as "+N more"
+     */
+    private String formatDigestSms(List<Notification> notifications, LocalDate date) {
+        StringBuilder sb = new StringBuilder("CourtAssist ")
+                .append(date.format(DIGEST_SHORT_DATE)).append(": ")
+                .append(notifications.size()).append(" hearing").append(notifications.size() == 1 ? "" : "s")
+                .append(". ");
+        appendCompactList(sb, notifications, MAX_DIGEST_SMS_LENGTH, true);
+        return sb.toString();
+    }
+
+    private void appendCompactList(StringBuilder sb, List<Notification> notifications, int maxLength, boolean withCourt) {
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            String item = notification.getCaseRef() + " " + notification.getHearingTime()
+                    + (withCourt ? " " + abbreviate(notification.getCourt(), 15) : "");
+            String separator = i == 0 ? "" : "; ";
+            String more = "; +" + (notifications.size() - i) + " more";
+
+            boolean last = i == notifications.size() - 1;
+            int reserve = last ? 0 : more.length();
+            if (sb.length() + separator.length() + item.length() + reserve > maxLength) {
+                sb.append(i == 0 ? "+" + notifications.size() + " cases" : more);
+                return;
+            }
+            sb.append(separator).append(item);
+        }
+    }
+
+    private String formatDigestEmail(List<Notification> notifications, LocalDate date) {
+        StringBuilder rows = new StringBuilder();
+        for (Notification notification : notifications) {
+            rows.append("<tr>")
+                    .append(digestCell(notification.getHearingTime().format(DIGEST_TIME)))
+                    .append(digestCell(notification.getCaseRef()))
+                    .append(digestCell(notification.getCourt()))
+                    .append(digestCell(notification.getStage()))
+                    .append("</tr>");
+        }
+
+        return "<!DOCTYPE html>" +
+                "<html>" +
+                "<body style='font-family: sans-serif; background-color: #f0f2f5; padding: 20px; margin: 0;'>" +
+                "    <div style='max-width: 600px; margin: 0 auto; background-color: #0b1a2e; border-radius: 12px; overflow: hidden; border: 1px solid #D4AF37;'>" +
+                "        <div style='background-color: #D4AF37; padding: 25px; text-align: center;'>" +
+                "            <h1 style='margin: 0; color: #0b1a2e; font-size: 22px;'>🏛️ Court Hearing Digest</h1>" +
+                "            <p style='margin: 5px 0 0 0; color: #0b1a2e; font-weight: bold; opacity: 0.8;'>" +
+                notifications.size() + " hearing" + (notifications.size() == 1 ? "" : "s") + " on " + date.format(DIGEST_DATE) + "</p>" +
+                "        </div>" +
+                "        <div style='padding: 30px; color: #ffffff;'>" +
+                "            <table style='width: 100%; border-collapse: collapse;'>" +
+                "                <tr>" + digestHeader("Time") + digestHeader("Case") + digestHeader("Court") + digestHeader("Stage") + "</tr>" +
+                rows +
+                "            </table>" +
+                "        </div>" +
+                "        <div style='background-color: rgba(0,0,0,0.3); padding: 20px; text-align: center; color: #8892b0; font-size: 12px; border-top: 1px solid rgba(212, 175, 55, 0.2);'>" +
+                "            This is an automated notification from <strong>CourtAssist</strong>" +
+                "        </div>" +
+                "    </div>" +
+                "</body>" +
+                "</html>";
+    }
+
+    private String digestHeader(String text) {
+        return "<th style='color: #D4AF37; text-align: left; padding: 8px; border-bottom: 1px solid rgba(212, 175, 55, 0.3);'>" + text + "</th>";
+    }
+
+    private String digestCell(String text) {
+        return "<td style='padding: 8px; border-bottom: 1px solid rgba(255,255,255,0.05);'>" + text + "</td>";
+    }
+
     private String abbreviate(String text, int maxLength) {
         if (text == null || text.length() <= maxLength) return text;
         return text.substring(0, maxLength - 3) + "...";
     }
-}
\ No newline at end of file
+}
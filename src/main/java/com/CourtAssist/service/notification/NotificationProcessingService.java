@@ -1,13 +1,20 @@
 // NotificationProcessingService.java
 package com.CourtAssist.service.notification;
 
+import com.CourtAssist.dto.NotificationDTO;
 import com.CourtAssist.dto.NotificationMessageDTO;
 import com.CourtAssist.model.*;
 import com.CourtAssist.repository.*;
+import com.CourtAssist.service.scheduler.PipelineCheckpointService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
@@ -25,8 +32,14 @@ public class NotificationProcessingService {
     private final NotificationRepository notificationRepository;
     private final NotificationHelperService notificationHelperService;
     private final NameMatchingService nameMatchingService;
-    private final FcmService fcmService;
     private final FcmTokenRepository fcmTokenRespository;
+    private final PipelineCheckpointService checkpointService;
+    private final UnreadCounterService unreadCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    private static final String CHECKPOINT_SCOPE = "ALL";
 
     /**
      * Constructor for dependency injection
@@ -36,68 +49,190 @@ public class NotificationProcessingService {
                                          CourtCaseRepository caseRepository,
                                          NotificationRepository notificationRepository,
                                          NotificationHelperService notificationHelperService,
-                                         NameMatchingService nameMatchingService, FcmService fcmService, FcmTokenRepository fcmTokenRespository) {
+                                         NameMatchingService nameMatchingService, FcmTokenRepository fcmTokenRespository,
+                                         PipelineCheckpointService checkpointService,
+                                         UnreadCounterService unreadCounterService,
+                                         ApplicationEventPublisher eventPublisher,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${court-data.notification.chunk-size:100}") int chunkSize) {
         this.hearingRepository = hearingRepository;
         this.subscriptionRepository = subscriptionRepository;
         this.caseRepository = caseRepository;
         this.notificationRepository = notificationRepository;
         this.notificationHelperService = notificationHelperService;
         this.nameMatchingService = nameMatchingService;
-        this.fcmService = fcmService;
         this.fcmTokenRespository = fcmTokenRespository;
+        this.checkpointService = checkpointService;
+        this.unreadCounterService = unreadCounterService;
+        this.eventPublisher = eventPublisher;
+        // Each chunk gets its own transaction and persistence context, discarded on commit
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
     }
 
     /**
      * Main processing method for upcoming hearing notifications
      * Processes all hearings for a given date and sends notifications for matching subscriptions
+     * Hearings are processed in chunks of chunkSize, each committed in its own transaction.
+     * A restarted run scans the whole date again, as hearings re-imported since keep their old ids,
+     * and skips the users already notified of a hearing
      *
      * @param date The date for which to process hearings
      */
-    @Transactional
     public void processUpcomingHearingNotificationsForDate(LocalDate date) {
         LocalDateTime startTime = date.atStartOfDay();
         LocalDateTime endTime = date.atTime(23, 59, 59);
 
         logger.info("Starting notification processing for date: {}", date);
 
-        List<CourtHearing> upcomingHearings = hearingRepository.findByHearingDatetimeBetween(startTime, endTime);
-        logger.info("Found {} hearings on {}", upcomingHearings.size(), date);
-
-        if (upcomingHearings.isEmpty()) {
-            logger.info("No hearings found for date {}", date);
+        if (checkpointService.isCompleted(PipelineCheckpoint.Stage.NOTIFICATIONS, CHECKPOINT_SCOPE, date)) {
+            logger.info("Notifications for {} already processed, skipping", date);
             return;
         }
 
-        List<UserSubscription> allSubscriptions = subscriptionRepository.findAll();
+        long lastHearingId = 0;
+
+        List<UserSubscription> allSubscriptions = subscriptionRepository.findAllWithUser();
         logger.info("Total subscriptions in system: {}", allSubscriptions.size());
 
+        SubscriptionIndex subscriptionIndex = SubscriptionIndex.build(allSubscriptions, nameMatchingService);
+
+        int totalHearings = 0;
         int totalNotificationsSent = 0;
 
-        for (CourtHearing hearing : upcomingHearings) {
-            totalNotificationsSent += processSingleHearing(hearing, allSubscriptions);
+        try {
+            while (true) {
+                ChunkResult chunk = processHearingChunk(date, startTime, endTime, lastHearingId, subscriptionIndex);
+                if (chunk == null) break;
+
+                totalHearings += chunk.hearingCount();
+                totalNotificationsSent += chunk.notificationsSent();
+                lastHearingId = chunk.lastHearingId();
+            }
+        } finally {
+            // Advocate fields are normalized once per run; release them for the next date
+            nameMatchingService.clearTargetCache();
+        }
+
+        if (totalHearings == 0) {
+            logger.info("No hearings found for date {}", date);
         }
 
-        logger.info("Processing complete: Sent {} total notifications for date {}", totalNotificationsSent, date);
+        // Digests are queued together with the completion checkpoint, so a resumed run cannot queue them twice
+        Integer digestUsers = chunkTransaction.execute(status -> {
+            int queued = enqueueDigests(date);
+            checkpointService.markCompleted(PipelineCheckpoint.Stage.NOTIFICATIONS, CHECKPOINT_SCOPE, date);
+            return queued;
+        });
+
+        logger.info("Processing complete: Processed {} hearings and sent {} total notifications for date {} ({} digests)",
+                totalHearings, totalNotificationsSent, date, digestUsers);
+    }
+
+    /**
+     * Queues one digest per digest-mode user from the notifications recorded during this run
+     *
+     * @param date The date being processed
+     * @return Number of users a digest was queued for
+     */
+    private int enqueueDigests(LocalDate date) {
+        Map<Long, List<Notification>> notificationsByUserId = notificationRepository.findUnsentDigestNotifications(date).stream()
+                .collect(Collectors.groupingBy(n -> n.getUser().getUserId(), LinkedHashMap::new, Collectors.toList()));
+        if (notificationsByUserId.isEmpty()) return 0;
+
+        Map<Long, List<FcmToken>> tokensByUserId = fcmTokenRespository.getTokensByUserIds(notificationsByUserId.keySet()).stream()
+                .collect(Collectors.groupingBy(FcmToken::getUserId));
+
+        int digests = 0;
+        for (Map.Entry<Long, List<Notification>> userNotifications : notificationsByUserId.entrySet()) {
+            List<FcmToken> tokens = tokensByUserId.getOrDefault(userNotifications.getKey(), List.of());
+            if (notificationHelperService.enqueueDigest(userNotifications.getValue(), tokens, date) > 0) {
+                digests++;
+            } else {
+                // Nothing to deliver; otherwise the notifications would stay unsent forever
+                notificationRepository.markDigestAsSent(userNotifications.getValue().get(0).getId(), date);
+            }
+        }
+        return digests;
+    }
+
+    /**
+     * Loads and processes the next chunk of hearings in a single transaction
+     *
+     * @param date The date being processed
+     * @param startTime Start of the hearing window
+     * @param endTime End of the hearing window
+     * @param afterHearingId Id of the last hearing processed earlier in this run
+     * @param subscriptionIndex Index of all user subscriptions
+     * @return Outcome of the chunk, or null when no hearings are left
+     */
+    private ChunkResult processHearingChunk(LocalDate date, LocalDateTime startTime, LocalDateTime endTime,
+                                            long afterHearingId, SubscriptionIndex subscriptionIndex) {
+        return chunkTransaction.execute(status -> {
+            List<CourtHearing> hearings = hearingRepository.findChunkByHearingDatetimeBetween(
+                    startTime, endTime, afterHearingId, PageRequest.of(0, chunkSize));
+            if (hearings.isEmpty()) return null;
+
+            // Child cases of every hearing in the chunk in one query
+            List<String> mainCaseIds = hearings.stream().map(h -> h.getCourtCase().getCaseId()).distinct().toList();
+            Map<String, List<CourtCase>> childCasesByParentId = caseRepository.findByParentCaseIdIn(mainCaseIds).stream()
+                    .collect(Collectors.groupingBy(c -> c.getParentCase().getCaseId()));
+
+            // Users notified of these hearings by an earlier run for the date
+            Set<String> notifiedKeys = new HashSet<>(notificationRepository.findNotifiedHearingUserKeys(
+                    date, hearings.stream().map(CourtHearing::getHearingId).toList()));
+
+            List<HearingMatch> matches = new ArrayList<>();
+            for (CourtHearing hearing : hearings) {
+                List<CourtCase> childCases = childCasesByParentId.getOrDefault(hearing.getCourtCase().getCaseId(), List.of());
+                matches.addAll(matchSingleHearing(hearing, childCases, subscriptionIndex));
+            }
+
+            // FCM tokens of every matched user in one query
+            Set<Long> matchedUserIds = matches.stream().map(m -> m.user().getUserId()).collect(Collectors.toSet());
+            Map<Long, List<FcmToken>> tokensByUserId = matchedUserIds.isEmpty() ? Map.of()
+                    : fcmTokenRespository.getTokensByUserIds(matchedUserIds).stream()
+                    .collect(Collectors.groupingBy(FcmToken::getUserId));
+
+            // Each user is notified at most once per hearing; a user only counts as notified once the
+            // notification is recorded, so a failure on one case falls through to their next matching case
+            int notificationsSent = 0;
+            for (HearingMatch match : matches) {
+                String key = match.hearing().getHearingId() + ":" + match.user().getUserId();
+                if (notifiedKeys.contains(key)) continue;
+                if (notifyMatch(match, tokensByUserId.getOrDefault(match.user().getUserId(), List.of()))) {
+                    notifiedKeys.add(key);
+                    notificationsSent++;
+                }
+            }
+
+            long lastHearingId = hearings.get(hearings.size() - 1).getId();
+            logger.debug("Committed chunk of {} hearings up to id {}", hearings.size(), lastHearingId);
+
+            return new ChunkResult(hearings.size(), notificationsSent, lastHearingId);
+        });
     }
 
     /**
-     * Processes a single hearing and sends notifications to matching subscribers
+     * Finds the subscribers to notify for a single hearing
+     * A user matching several related cases gets one match per case, main case first
      *
      * @param hearing The hearing to process
-     * @param allSubscriptions List of all user subscriptions
-     * @return Number of notifications sent for this hearing
+     * @param childCases Cases listed together with the hearing's main case
+     * @param subscriptionIndex Index of all user subscriptions
+     * @return Matches for this hearing
      */
-    private int processSingleHearing(CourtHearing hearing, List<UserSubscription> allSubscriptions) {
-        CourtCase mainCase = hearing.getCourtCase();
+    private List<HearingMatch> matchSingleHearing(CourtHearing hearing, List<CourtCase> childCases,
+                                                  SubscriptionIndex subscriptionIndex) {
         List<CourtCase> allRelatedCases = new ArrayList<>();
-        allRelatedCases.add(mainCase);
-        allRelatedCases.addAll(caseRepository.findByParentCase(mainCase));
+        allRelatedCases.add(hearing.getCourtCase());
+        allRelatedCases.addAll(childCases);
 
-        int notificationsForThisHearing = 0;
-        Set<Long> usersNotifiedInThisHearing = new HashSet<>();
+        List<HearingMatch> matches = new ArrayList<>();
 
         for (CourtCase courtCase : allRelatedCases) {
-            List<UserSubscription> matchingSubscriptions = findMatchingSubscriptions(courtCase, allSubscriptions);
+            List<UserSubscription> matchingSubscriptions = findMatchingSubscriptions(courtCase, subscriptionIndex);
 
             for (UserSubscription subscription : matchingSubscriptions) {
                 // Enhanced null checking
@@ -106,50 +241,55 @@ public class NotificationProcessingService {
                     continue;
                 }
 
-                Long userId = subscription.getUser().getUserId();
-                if (userId == null || usersNotifiedInThisHearing.contains(userId)) {
+                if (subscription.getUser().getUserId() == null) {
                     continue;
                 }
 
-                try {
-                    NotificationMessageDTO notificationDto = NotificationMessageDTO.createFrom(courtCase, hearing, subscription);
-
-                    // Send push notifications with null safety
-                    List<FcmToken> userFcmTokens = fcmTokenRespository.getTokensByUserId(userId);
-                    if (userFcmTokens != null && !userFcmTokens.isEmpty()) {
-                        for(FcmToken userFcmToken : userFcmTokens) {
-                            if (userFcmToken != null && userFcmToken.getFcmToken() != null) {
-                                fcmService.sendNotificationToToken(
-                                        userFcmToken.getFcmToken(),
-                                        "Court Hearing Alert",
-                                        notificationDto.getFormattedMessage()
-                                );
-                            }
-                        }
-                    }
-
-                    // Send email/SMS notifications with null safety
-                    String email = subscription.getUser().getEmail();
-                    String mobileNo = subscription.getUser().getMobileNo();
-
-                    if (email != null || mobileNo != null) {
-                        notificationHelperService.sendHearingNotification(email, mobileNo, notificationDto);
-                    }
-
-                    saveNotificationToDatabase(subscription.getUser(), hearing, courtCase, notificationDto);
-                    notificationsForThisHearing++;
-                    usersNotifiedInThisHearing.add(userId);
-
-                    logger.debug("Notification sent for CaseNo '{}', User '{}'",
-                            courtCase.getCaseNo(), userId);
-
-                } catch (Exception e) {
-                    logger.error("Failed to notify User {} for Case {}: {}",
-                            userId, courtCase.getCaseId(), e.getMessage());
-                }
+                matches.add(new HearingMatch(hearing, courtCase, subscription));
             }
         }
-        return notificationsForThisHearing;
+        return matches;
+    }
+
+    /**
+     * Records the notification for a single match and queues its deliveries in the outbox
+     * Nothing is sent here; the dispatch workers deliver once the chunk has committed
+     * For digest-mode users only the notification is recorded; it is delivered in the end-of-run digest
+     *
+     * @param match Matched hearing, case and subscription
+     * @param userFcmTokens Registered FCM tokens of the subscriber
+     * @return true if the notification was recorded
+     */
+    private boolean notifyMatch(HearingMatch match, List<FcmToken> userFcmTokens) {
+        CourtCase courtCase = match.courtCase();
+        Users user = match.user();
+
+        try {
+            NotificationMessageDTO notificationDto = NotificationMessageDTO.createFrom(courtCase, match.hearing(), match.subscription());
+
+            Notification notification = saveNotificationToDatabase(user, match.hearing(), courtCase, notificationDto);
+            if (Boolean.TRUE.equals(user.getDigestMode())) {
+                logger.debug("Notification for CaseNo '{}' held for digest of User '{}'",
+                        courtCase.getCaseNo(), user.getUserId());
+                return true;
+            }
+
+            int queued = notificationHelperService.enqueueHearingNotification(
+                    notification, user.getEmail(), user.getMobileNo(), userFcmTokens, notificationDto);
+            if (queued == 0) {
+                // No outbox row will ever mark it sent
+                notificationRepository.markAsSent(notification.getId());
+            }
+
+            logger.debug("Notification queued for CaseNo '{}', User '{}' ({} deliveries)",
+                    courtCase.getCaseNo(), user.getUserId(), queued);
+            return true;
+
+        } catch (Exception e) {
+            logger.error("Failed to notify User {} for Case {}: {}",
+                    user.getUserId(), courtCase.getCaseId(), e.getMessage());
+            return false;
+        }
     }
 
     /**
@@ -157,12 +297,13 @@ public class NotificationProcessingService {
      * Both case number AND advocate name must match (if specified)
      *
      * @param courtCase The court case to match against
-     * @param allSubscriptions List of all subscriptions to check
-     * @return List of matching subscriptions
+     * @param subscriptionIndex Index used to narrow down the subscriptions to check
+     * @return List of matching subscriptions, in subscription id order
      */
-    private List<UserSubscription> findMatchingSubscriptions(CourtCase courtCase, List<UserSubscription> allSubscriptions) {
-        return allSubscriptions.stream()
+    private List<UserSubscription> findMatchingSubscriptions(CourtCase courtCase, SubscriptionIndex subscriptionIndex) {
+        return subscriptionIndex.findCandidates(courtCase).stream()
                 .filter(subscription -> matchesSubscriptionCriteria(subscription, courtCase))
+                .sorted(Comparator.comparing(UserSubscription::getId, Comparator.nullsLast(Comparator.naturalOrder())))
                 .collect(Collectors.toList());
     }
 
@@ -222,11 +363,11 @@ public class NotificationProcessingService {
         if (!StringUtils.hasText(subscriptionCaseNo)) return false;
 
         // Normalize: remove spaces, special characters, convert to lowercase
-        String normalizedSubscriptionCaseNo = subscriptionCaseNo.replaceAll("[^a-zA-Z0-9]", "").toLowerCase();
+        String normalizedSubscriptionCaseNo = SubscriptionIndex.normalizeCaseNumber(subscriptionCaseNo);
 
         // Check against case number
         if (StringUtils.hasText(courtCaseNo)) {
-            String normalizedCourtCaseNo = courtCaseNo.replaceAll("[^a-zA-Z0-9]", "").toLowerCase();
+            String normalizedCourtCaseNo = SubscriptionIndex.normalizeCaseNumber(courtCaseNo);
             if (normalizedCourtCaseNo.contains(normalizedSubscriptionCaseNo)) {
                 return true;
             }
@@ -234,7 +375,7 @@ public class NotificationProcessingService {
 
         // Check against case ID (important for generated case IDs like 'TN-HC-Madurai-26954-2025')
         if (StringUtils.hasText(courtCaseId)) {
-            String normalizedCaseId = courtCaseId.replaceAll("[^a-zA-Z0-9]", "").toLowerCase();
+            String normalizedCaseId = SubscriptionIndex.normalizeCaseNumber(courtCaseId);
             if (normalizedCaseId.contains(normalizedSubscriptionCaseNo)) {
                 return true;
             }
@@ -250,27 +391,41 @@ public class NotificationProcessingService {
      * @param hearing The hearing that triggered the notification
      * @param courtCase The court case associated with the hearing
      * @param dto The notification message data
+     * @return The saved notification, marked as sent once every delivery succeeds
      */
-    private void saveNotificationToDatabase(Users user, CourtHearing hearing, CourtCase courtCase, NotificationMessageDTO dto) {
-        try {
-            Notification notification = new Notification();
-            notification.setUser(user);
-            notification.setCourtCase(courtCase);
-            notification.setHearingId(hearing.getHearingId());
-            notification.setCaseRef(dto.getCaseRef());
-            notification.setHearingDate(dto.getHearingDateTime().toLocalDate());
-            notification.setHearingTime(dto.getHearingDateTime().toLocalTime());
-            notification.setCourt(dto.getCourt());
-            notification.setStage(dto.getStage());
-            notification.setParties(dto.getParties());
-            notification.setAdvocates(dto.getAdvocates());
-            notification.setIsRead(false);
-            notification.setIsSent(true);
-
-            notificationRepository.save(notification);
-            logger.debug("Notification saved to database for user {}", user.getUserId());
-        } catch (Exception e) {
-            logger.error("Error saving notification for user {}: {}", user.getUserId(), e.getMessage());
+    private Notification saveNotificationToDatabase(Users user, CourtHearing hearing, CourtCase courtCase, NotificationMessageDTO dto) {
+        Notification notification = new Notification();
+        notification.setUser(user);
+        notification.setCourtCase(courtCase);
+        notification.setHearingId(hearing.getHearingId());
+        notification.setCaseRef(dto.getCaseRef());
+        notification.setHearingDate(dto.getHearingDateTime().toLocalDate());
+        notification.setHearingTime(dto.getHearingDateTime().toLocalTime());
+        notification.setCourt(dto.getCourt());
+        notification.setStage(dto.getStage());
+        notification.setParties(dto.getParties());
+        notification.setAdvocates(dto.getAdvocates());
+        notification.setIsRead(false);
+        notification.setIsSent(false);
+
+        // Counter row first, matching the lock order of the mark-as-read paths
+        unreadCounterService.lock(user.getUserId());
+        unreadCounterService.add(user.getUserId(), 1);
+        Notification saved = notificationRepository.save(notification);
+        eventPublisher.publishEvent(new NotificationCreatedEvent(user.getUserId(), new NotificationDTO(
+                saved.getId(), saved.getHearingId(), saved.getCaseRef(), saved.getHearingDate(), saved.getHearingTime(),
+                saved.getCourt(), saved.getStage(), saved.getParties(), saved.getAdvocates(),
+                saved.getIsRead(), saved.getIsSent(), saved.getCreatedAt())));
+        logger.debug("Notification saved to database for user {}", user.getUserId());
+        return saved;
+    }
+
+    private record HearingMatch(CourtHearing hearing, CourtCase courtCase, UserSubscription subscription) {
+        Users user() {
+            return subscription.getUser();
         }
     }
-}
\ No newline at end of file
+
+    private record ChunkResult(int hearingCount, int notificationsSent, long lastHearingId) {
+    }
+}
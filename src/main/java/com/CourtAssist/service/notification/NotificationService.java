@@ -1,32 +1,144 @@
 package com.CourtAssist.service.notification;
 
+import com.CourtAssist.dto.ArchivedNotificationDTO;
 import com.CourtAssist.dto.NotificationDTO;
+import com.CourtAssist.dto.NotificationPageDTO;
 import com.CourtAssist.repository.NotificationRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
 
 @Service
 public class NotificationService {
+    // Start of the first page: later than any stored created_at and any id
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final Comparator<NotificationDTO> NEWEST_FIRST =
+            Comparator.comparing(NotificationDTO::getCreatedAt)
+                    .thenComparing(NotificationDTO::getId)
+                    .reversed();
+
     private final NotificationRepository notificationRepository;
+    private final UnreadCounterService unreadCounterService;
+    private final NotificationArchiveService archiveService;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
-    public NotificationService(NotificationRepository notificationRepository) {
+    public NotificationService(NotificationRepository notificationRepository,
+                               UnreadCounterService unreadCounterService,
+                               NotificationArchiveService archiveService,
+                               @Value("${notification.page.default-size:20}") int defaultPageSize,
+                               @Value("${notification.page.max-size:100}") int maxPageSize) {
         this.notificationRepository = notificationRepository;
+        this.unreadCounterService = unreadCounterService;
+        this.archiveService = archiveService;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
+    /**
+     * A user's notifications, for clients of the unpaged endpoint
+     * Lists the table plus the archived notifications created within notification.archive.after-days,
+     * so only notifications archived for their age are left to the paged endpoint
+     */
     public List<NotificationDTO> getUserNotifications(Long userId) {
-        return notificationRepository.findDTOByUserId(userId);
+        List<NotificationDTO> notifications = notificationRepository.findDTOByUserId(userId);
+        List<ArchivedNotificationDTO> archived = archiveService.readRecent(userId);
+        if (archived.isEmpty()) {
+            return notifications;
+        }
+        // In id order, as the table lists them
+        List<NotificationDTO> merged = new ArrayList<>(notifications);
+        archived.forEach(record -> merged.add(record.toNotificationDTO()));
+        merged.sort(Comparator.comparing(NotificationDTO::getId));
+        return merged;
     }
 
+    /**
+     * One page of a user's notifications, newest first
+     *
+     * @param userId Id of the user
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @param limit Page size, or null for the default; capped at notification.page.max-size
+     * @param isRead Only read (true) or unread (false) notifications, or null for all
+     * @return The page and the cursor of the next one
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public NotificationPageDTO getUserNotifications(Long userId, String cursor, Integer limit, Boolean isRead) {
+        int pageSize = limit == null || limit <= 0 ? defaultPageSize : Math.min(limit, maxPageSize);
+
+        LocalDateTime createdAt = FIRST_PAGE_CREATED_AT;
+        long id = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            createdAt = LocalDateTime.parse(position[0]);
+            id = Long.parseLong(position[1]);
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<NotificationDTO> rows = isRead == null
+                ? notificationRepository.findDTOPageByUserId(userId, createdAt, id, pageable)
+                : notificationRepository.findDTOPageByUserIdAndIsRead(userId, isRead, createdAt, id, pageable);
+
+        // Retention archives notifications of any age, so the archive is merged in on every page
+        // rather than read only past the table's rows
+        List<NotificationDTO> merged = new ArrayList<>(rows);
+        archiveService.readPage(userId, createdAt, id, isRead, pageSize + 1)
+                .forEach(record -> merged.add(record.toNotificationDTO()));
+        merged.sort(NEWEST_FIRST);
+        if (merged.size() <= pageSize) {
+            return new NotificationPageDTO(merged, null);
+        }
+        List<NotificationDTO> page = merged.subList(0, pageSize);
+        NotificationDTO last = page.get(pageSize - 1);
+        return new NotificationPageDTO(page, encodeCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    @Transactional
     public void markAsRead(Long notificationId) {
-        notificationRepository.markAsRead(notificationId);
+        notificationRepository.findUserIdById(notificationId).ifPresent(userId -> {
+            unreadCounterService.lock(userId);
+            unreadCounterService.add(userId, -notificationRepository.markAsRead(notificationId));
+        });
     }
 
+    @Transactional
     public void markAllAsRead(Long userId) {
-        notificationRepository.markAllAsReadByUserId(userId);
+        unreadCounterService.lock(userId);
+        unreadCounterService.add(userId, -notificationRepository.markAllAsReadByUserId(userId));
     }
 
     public Long getUnreadCount(Long userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadCounterService.getUnreadCount(userId);
+    }
+
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String position = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime.parse(position[0]);
+            Long.parseLong(position[1]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package com.CourtAssist.service.notification;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Open Server-Sent Events streams per user
+ * New notifications are written to the user's streams on notificationStreamExecutor after the
+ * saving transaction commits, so neither the pipeline nor the request threads wait on slow
+ * clients. A heartbeat comment keeps idle connections open through proxies and detects dead ones.
+ * A notification missed while disconnected is still in the inbox; clients re-page on reconnect.
+ */
+@Component
+public class NotificationStreamRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamRegistry.class);
+
+    private final Map<Long, Set<SseEmitter>> emittersByUserId = new ConcurrentHashMap<>();
+    private final ExecutorService streamExecutor;
+    private final long timeoutMs;
+    private final int maxStreamsPerUser;
+
+    public NotificationStreamRegistry(@Qualifier("notificationStreamExecutor") ExecutorService streamExecutor,
+                                      @Value("${notification.stream.timeout-ms:1800000}") long timeoutMs,
+                                      @Value("${notification.stream.max-per-user:5}") int maxStreamsPerUser) {
+        this.streamExecutor = streamExecutor;
+        this.timeoutMs = timeoutMs;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+    }
+
+    /**
+     * Opens a stream for the user, closing other streams of the user beyond max-per-user
+     */
+    public SseEmitter register(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        // Added and trimmed under the map's lock for the user, so a concurrent remove() dropping the
+        // user's emptied set cannot leave the new emitter in a set that is no longer in the map
+        List<SseEmitter> evicted = new ArrayList<>();
+        emittersByUserId.compute(userId, (id, emitters) -> {
+            if (emitters == null) {
+                emitters = ConcurrentHashMap.newKeySet();
+            }
+            emitters.add(emitter);
+            Iterator<SseEmitter> excess = emitters.iterator();
+            while (emitters.size() > maxStreamsPerUser && excess.hasNext()) {
+                SseEmitter other = excess.next();
+                if (other != emitter) {
+                    excess.remove();
+                    evicted.add(other);
+                }
+            }
+            return emitters;
+        });
+        // Outside compute(): completing calls back into remove(), which updates the same entry
+        evicted.forEach(SseEmitter::complete);
+
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        Set<SseEmitter> emitters = emittersByUserId.get(event.userId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        try {
+            streamExecutor.execute(() -> {
+                for (SseEmitter emitter : emitters) {
+                    send(event.userId(), emitter, SseEmitter.event()
+                            .name("notification")
+                            .id(String.valueOf(event.notification().getId()))
+                            .data(event.notification()));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("Stream queue full, notification {} not pushed live to user {}",
+                    event.notification().getId(), event.userId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        emittersByUserId.forEach((userId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    streamExecutor.execute(() -> send(userId, emitter, SseEmitter.event().comment("heartbeat")));
+                } catch (RejectedExecutionException e) {
+                    return;
+                }
+            }
+        });
+    }
+
+    public int getOpenStreamCount() {
+        return emittersByUserId.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        emittersByUserId.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        emittersByUserId.clear();
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; completing the emitter releases the async request
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emittersByUserId.computeIfPresent(userId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,157 @@
+// SubscriptionIndex.java
+package com.CourtAssist.service.notification;
+
+import com.CourtAssist.model.CourtCase;
+import com.CourtAssist.model.UserSubscription;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+
+/**
+ * In-memory inverted index over user subscriptions, built once per notification run.
+ * Each subscription is filed under its most selective criterion so that a court case
+ * only has to be checked against a small candidate set:
+ * - case number subscriptions by normalized case number
+ * - advocate subscriptions by advocate name tokens, looked up through a {@link FuzzyTokenIndex}
+ * - remaining subscriptions by case year and court level
+ * Candidates are a superset of the real matches; callers still apply the full criteria.
+ */
+public class SubscriptionIndex {
+
+    private final NameMatchingService nameMatchingService;
+
+    private final Map<String, List<UserSubscription>> byCaseNo = new HashMap<>();
+    private final Map<String, List<UserSubscription>> byAdvocateToken = new HashMap<>();
+    private final Map<String, List<UserSubscription>> byYearAndLevel = new HashMap<>();
+    private final FuzzyTokenIndex advocateTokenIndex;
+
+    // Advocate subscriptions whose name yields no usable token (e.g. only initials)
+    private final List<UserSubscription> untokenizedAdvocateSubscriptions = new ArrayList<>();
+
+    // Lengths of indexed case numbers, used to bound substring lookups
+    private final Set<Integer> caseNoLengths = new TreeSet<>();
+
+    private final int size;
+
+    private SubscriptionIndex(List<UserSubscription> subscriptions, NameMatchingService nameMatchingService) {
+        this.nameMatchingService = nameMatchingService;
+        this.size = subscriptions.size();
+        subscriptions.forEach(this::add);
+        this.advocateTokenIndex = nameMatchingService.buildTokenIndex(byAdvocateToken.keySet());
+    }
+
+    /**
+     * Builds the index for the given subscriptions
+     *
+     * @param subscriptions All subscriptions to index
+     * @param nameMatchingService Service used to tokenize and fuzzy match advocate names
+     * @return Populated index
+     */
+    public static SubscriptionIndex build(List<UserSubscription> subscriptions, NameMatchingService nameMatchingService) {
+        return new SubscriptionIndex(subscriptions, nameMatchingService);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void add(UserSubscription subscription) {
+        if (StringUtils.hasText(subscription.getCaseNo())) {
+            String normalizedCaseNo = normalizeCaseNumber(subscription.getCaseNo());
+            byCaseNo.computeIfAbsent(normalizedCaseNo, k -> new ArrayList<>()).add(subscription);
+            caseNoLengths.add(normalizedCaseNo.length());
+            return;
+        }
+
+        if (StringUtils.hasText(subscription.getAdvocateName())) {
+            Set<String> tokens = nameMatchingService.extractSearchTokens(subscription.getAdvocateName());
+            if (tokens.isEmpty()) {
+                untokenizedAdvocateSubscriptions.add(subscription);
+            }
+            for (String token : tokens) {
+                byAdvocateToken.computeIfAbsent(token, k -> new ArrayList<>()).add(subscription);
+            }
+            return;
+        }
+
+        String key = yearAndLevelKey(subscription.getCaseYear(), subscription.getCourtLevel());
+        byYearAndLevel.computeIfAbsent(key, k -> new ArrayList<>()).add(subscription);
+    }
+
+    /**
+     * Returns the subscriptions that may match the given court case
+     *
+     * @param courtCase Court case to look up
+     * @return Candidate subscriptions without duplicates
+     */
+    public Collection<UserSubscription> findCandidates(CourtCase courtCase) {
+        Set<UserSubscription> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        addCaseNoCandidates(courtCase.getCaseNo(), candidates);
+        addCaseNoCandidates(courtCase.getCaseId(), candidates);
+        addAdvocateCandidates(courtCase, candidates);
+
+        Integer caseYear = courtCase.getCaseYear();
+        CourtCase.CourtLevel courtLevel = courtCase.getCourtLevel();
+        addAll(byYearAndLevel.get(yearAndLevelKey(caseYear, courtLevel)), candidates);
+        addAll(byYearAndLevel.get(yearAndLevelKey(caseYear, null)), candidates);
+        addAll(byYearAndLevel.get(yearAndLevelKey(null, courtLevel)), candidates);
+        addAll(byYearAndLevel.get(yearAndLevelKey(null, null)), candidates);
+
+        return candidates;
+    }
+
+    /**
+     * Case number subscriptions match on containment, so every substring of the
+     * normalized court value with an indexed length is a possible key
+     */
+    private void addCaseNoCandidates(String courtValue, Set<UserSubscription> candidates) {
+        if (!StringUtils.hasText(courtValue) || byCaseNo.isEmpty()) return;
+
+        String normalized = normalizeCaseNumber(courtValue);
+        for (int length : caseNoLengths) {
+            if (length > normalized.length()) break;
+            for (int start = 0; start + length <= normalized.length(); start++) {
+                addAll(byCaseNo.get(normalized.substring(start, start + length)), candidates);
+            }
+        }
+    }
+
+    private void addAdvocateCandidates(CourtCase courtCase, Set<UserSubscription> candidates) {
+        if (!StringUtils.hasText(courtCase.getPetitionerAdvocateNames())
+                && !StringUtils.hasText(courtCase.getRespondentAdvocateNames())) {
+            return;
+        }
+
+        candidates.addAll(untokenizedAdvocateSubscriptions);
+        if (byAdvocateToken.isEmpty()) return;
+
+        Set<String> targetTokens = nameMatchingService.extractTargetTokens(
+                courtCase.getPetitionerAdvocateNames(),
+                courtCase.getRespondentAdvocateNames()
+        );
+
+        for (String targetToken : targetTokens) {
+            for (String searchToken : advocateTokenIndex.findMatches(targetToken)) {
+                addAll(byAdvocateToken.get(searchToken), candidates);
+            }
+        }
+    }
+
+    private static void addAll(List<UserSubscription> source, Set<UserSubscription> target) {
+        if (source != null) {
+            target.addAll(source);
+        }
+    }
+
+    private static String yearAndLevelKey(Integer caseYear, CourtCase.CourtLevel courtLevel) {
+        return caseYear + "|" + courtLevel;
+    }
+
+    /**
+     * Normalizes a case number or case ID for comparison: alphanumerics only, lower case
+     */
+    public static String normalizeCaseNumber(String caseNo) {
+        return caseNo.replaceAll("[^a-zA-Z0-9]", "").toLowerCase();
+    }
+}
@@ -0,0 +1,97 @@
+// TokenBucket.java
+package com.CourtAssist.service.notification;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token bucket holding up to burst permits, refilled at permitsPerSecond
+ * The bucket state is a single "theoretical arrival time" (the instant the bucket would be full
+ * again), updated with compare-and-set, so concurrent callers never block each other on a lock.
+ * Callers that find the bucket empty reserve their permits and sleep until they are due.
+ */
+public class TokenBucket {
+
+    private final long nanosPerPermit;
+    private final long burstNanos;
+
+    // Instant (System.nanoTime) at which all reserved permits are paid off
+    private final AtomicLong theoreticalArrival;
+
+    private final LongAdder granted = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.nanosPerPermit = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = nanosPerPermit * burst;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime() - burstNanos);
+    }
+
+    /**
+     * Takes the permits if they are available right now
+     *
+     * @param permits Number of permits to take
+     * @return true if taken, false if the caller would have to wait
+     */
+    public boolean tryAcquire(int permits) {
+        long cost = nanosPerPermit * permits;
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now - burstNanos) + cost;
+            if (next - now > 0) {
+                throttled.increment();
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                granted.add(permits);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserves the permits and waits until they are due
+     * Requests larger than the burst are allowed and simply wait longer
+     *
+     * @param permits Number of permits to take
+     * @throws InterruptedException If interrupted while waiting; the reservation is not returned
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long cost = nanosPerPermit * permits;
+        long wait;
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now - burstNanos) + cost;
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                wait = next - now;
+                break;
+            }
+        }
+
+        granted.add(permits);
+        if (wait > 0) {
+            throttled.increment();
+            waitNanos.add(wait);
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    public long getGranted() {
+        return granted.sum();
+    }
+
+    public long getThrottled() {
+        return throttled.sum();
+    }
+
+    public long getWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.sum());
+    }
+}
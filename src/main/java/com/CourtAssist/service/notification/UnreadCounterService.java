@@ -0,0 +1,92 @@
+package com.CourtAssist.service.notification;
+
+import com.CourtAssist.repository.NotificationCounterRepository;
+import com.CourtAssist.repository.NotificationRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Per-user unread notification counters, so the unread-count endpoint reads one row instead of
+ * counting the user's history
+ * Every change takes the counter row lock before touching notifications, in the same transaction,
+ * which keeps the counter exact and the lock order the same across writers. A counter is seeded
+ * from notifications the first time it is needed, and the reconciliation job repairs any drift
+ * from changes made outside these paths (cleanup, archival, manual edits).
+ */
+@Service
+public class UnreadCounterService {
+    private static final Logger logger = LoggerFactory.getLogger(UnreadCounterService.class);
+
+    private final NotificationCounterRepository counterRepository;
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public UnreadCounterService(NotificationCounterRepository counterRepository,
+                                NotificationRepository notificationRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.counterRepository = counterRepository;
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public long getUnreadCount(Long userId) {
+        return counterRepository.findUnreadCountByUserId(userId)
+                .orElseGet(() -> transactionTemplate.execute(status -> {
+                    lock(userId);
+                    return counterRepository.findUnreadCountByUserId(userId).orElse(0L);
+                }));
+    }
+
+    /**
+     * Locks the user's counter row until the surrounding transaction ends, creating and seeding
+     * it from notifications if it does not exist yet
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void lock(Long userId) {
+        if (counterRepository.createIfAbsent(userId, LocalDateTime.now()) > 0) {
+            counterRepository.findByUserIdForUpdate(userId);
+            counterRepository.setUnreadCount(userId, notificationRepository.countUnreadByUserId(userId),
+                    LocalDateTime.now());
+            return;
+        }
+        counterRepository.findByUserIdForUpdate(userId);
+    }
+
+    /**
+     * Adds to a counter locked by lock() in the current transaction
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void add(Long userId, long delta) {
+        if (delta != 0) {
+            counterRepository.addToUnreadCount(userId, delta, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Recounts the counters that no longer match notifications
+     * Each user is repaired in its own short transaction under the counter lock, so concurrent
+     * inserts and reads are applied on top of the repaired value rather than lost
+     */
+    @Scheduled(cron = "${notification.unread.reconcile-cron:0 30 3 * * ?}")
+    public void reconcile() {
+        List<Long> userIds = counterRepository.findDriftedUserIds();
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                lock(userId);
+                counterRepository.setUnreadCount(userId, notificationRepository.countUnreadByUserId(userId),
+                        LocalDateTime.now());
+            });
+        }
+        if (!userIds.isEmpty()) {
+            logger.info("Reconciled unread counters of {} users", userIds.size());
+        }
+    }
+}
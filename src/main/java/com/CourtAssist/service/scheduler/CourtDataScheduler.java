@@ -9,12 +9,18 @@ import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Court data jobs: the hourly import and notification run, the 6 AM refresh and the midnight cleanup
+ * The task scheduler has several threads so notification dispatch is never held up, so these jobs
+ * share a lock instead: an import running next to the cleanup would hit deleted cases and wait on
+ * its row locks.
+ */
 @Service
 public class CourtDataScheduler {
 
@@ -25,6 +31,7 @@ public class CourtDataScheduler {
     private LocalDate lastProcessedDate = null;
     private final DataCleanUpService cleanUpService;
     private final String schedularState;
+    private final ReentrantLock courtDataJobLock = new ReentrantLock();
     public CourtDataScheduler(CourtDataImportService courtDataImportService,
                               NotificationProcessingService notificationProcessingService, DataCleanUpService cleanUpService , @Value("${schedular.state}") String schedularState) {
         this.courtDataImportService = courtDataImportService;
@@ -42,7 +49,7 @@ public class CourtDataScheduler {
     public void scheduledExecution() {
         if(schedularState.equalsIgnoreCase("on")) {
             logger.info("Starting scheduled court data import check");
-            executeScheduledTask();
+            runExclusively(this::executeScheduledTask);
         }else{
             logger.info("Schedular state is turned off , to turn on changing in env");
         }
@@ -61,8 +68,10 @@ public class CourtDataScheduler {
     /**
      * Core method that orchestrates data import and notification processing
      * Only imports data once per day
+     * Not transactional: each stage commits in chunks and records a checkpoint,
+     * so a failed run is resumed by the next scheduled execution.
+     * Notifications only run once every bench was imported; until then the day is not marked processed
      */
-    @Transactional
     public void executeScheduledTask() {
         try {
             LocalDate today = LocalDate.now();
@@ -80,8 +89,13 @@ public class CourtDataScheduler {
 
             // Step 1: Import court data
             logger.info("Step 1: Importing court data...");
-            String importResult = courtDataImportService.importCourtDataForDate(targetDate);
+            CourtDataImportService.ImportResult importResult = courtDataImportService.importCourtDataForDate(targetDate);
             logger.info("Court data import completed: {}", importResult);
+            if (importResult.hasFailedBenches()) {
+                // Notifications on partial data would be marked completed and never sent for the missing bench
+                logger.warn("Import for {} is incomplete, deferring notifications to the next run", targetDate);
+                return;
+            }
 
             // Step 2: Process notifications
             logger.info("Step 2: Processing notifications...");
@@ -101,10 +115,29 @@ public class CourtDataScheduler {
         }
     }
 
+    /**
+     * Refreshes the next day's court data, daily at 6:00 AM
+     */
+    @Scheduled(cron = "${court-data.import.cron:0 0 6 * * ?}")
+    public void refreshCourtData() {
+        runExclusively(() -> logger.info("Court data refresh completed: {}", courtDataImportService.importCourtData()));
+    }
+
     @Scheduled(cron = "0 0 0 * * ?") // every midnight
-    @Transactional
     public void cleanUpData(){
-        cleanUpService.cleanUpData(LocalDateTime.now());
+        runExclusively(() -> cleanUpService.cleanUpData(LocalDateTime.now()));
+    }
+
+    /**
+     * Runs a court data job once the one in progress, if any, has finished
+     */
+    private void runExclusively(Runnable job) {
+        courtDataJobLock.lock();
+        try {
+            job.run();
+        } finally {
+            courtDataJobLock.unlock();
+        }
     }
 
 }
\ No newline at end of file
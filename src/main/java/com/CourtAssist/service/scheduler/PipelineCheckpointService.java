@@ -0,0 +1,60 @@
+package com.CourtAssist.service.scheduler;
+
+import com.CourtAssist.model.PipelineCheckpoint;
+import com.CourtAssist.repository.PipelineCheckpointRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * Reads and records pipeline progress
+ * Positions should be saved inside the transaction that commits the chunk they describe
+ */
+@Service
+public class PipelineCheckpointService {
+
+    private final PipelineCheckpointRepository checkpointRepository;
+
+    public PipelineCheckpointService(PipelineCheckpointRepository checkpointRepository) {
+        this.checkpointRepository = checkpointRepository;
+    }
+
+    public long getPosition(PipelineCheckpoint.Stage stage, String scope, LocalDate runDate) {
+        return checkpointRepository.findById(key(stage, scope, runDate))
+                .map(PipelineCheckpoint::getPosition)
+                .orElse(0L);
+    }
+
+    public boolean isCompleted(PipelineCheckpoint.Stage stage, String scope, LocalDate runDate) {
+        return checkpointRepository.findById(key(stage, scope, runDate))
+                .map(PipelineCheckpoint::getCompleted)
+                .orElse(false);
+    }
+
+    public void savePosition(PipelineCheckpoint.Stage stage, String scope, LocalDate runDate, long position) {
+        PipelineCheckpoint checkpoint = getOrCreate(stage, scope, runDate);
+        checkpoint.setPosition(position);
+        checkpointRepository.save(checkpoint);
+    }
+
+    public void markCompleted(PipelineCheckpoint.Stage stage, String scope, LocalDate runDate) {
+        PipelineCheckpoint checkpoint = getOrCreate(stage, scope, runDate);
+        checkpoint.setCompleted(true);
+        checkpointRepository.save(checkpoint);
+    }
+
+    private PipelineCheckpoint getOrCreate(PipelineCheckpoint.Stage stage, String scope, LocalDate runDate) {
+        return checkpointRepository.findById(key(stage, scope, runDate))
+                .orElseGet(() -> {
+                    PipelineCheckpoint checkpoint = new PipelineCheckpoint();
+                    checkpoint.setCheckpointKey(key(stage, scope, runDate));
+                    checkpoint.setStage(stage);
+                    checkpoint.setRunDate(runDate);
+                    return checkpoint;
+                });
+    }
+
+    private String key(PipelineCheckpoint.Stage stage, String scope, LocalDate runDate) {
+        return stage + ":" + scope + ":" + runDate;
+    }
+}
@@ -2,31 +2,51 @@ package com.CourtAssist.service.user;
 
 import com.CourtAssist.model.Users;
 import com.CourtAssist.repository.UsersRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
+import java.util.List;
+
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
+    private static final Logger logger = LoggerFactory.getLogger(UserDetailsServiceImpl.class);
 
     private final UsersRepository usersRepository;
+    private final UserPrincipalCache principalCache;
 
-    public UserDetailsServiceImpl(UsersRepository usersRepository) {
+    public UserDetailsServiceImpl(UsersRepository usersRepository, UserPrincipalCache principalCache) {
         this.usersRepository = usersRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String identifier) throws UsernameNotFoundException {
-        System.out.println("User detail service method called with identifier: " + identifier);
+        UserPrincipal cached = principalCache.get(identifier);
+        if (cached != null) {
+            return cached;
+        }
+
+        logger.debug("Loading user with identifier: {}", identifier);
 
-        // Try different lookup strategies in order
-        Users user = usersRepository.findByUsername(identifier)
-                .orElseGet(() -> usersRepository.findByEmail(identifier)
-                        .orElseGet(() -> usersRepository.findByMobileNo(identifier)
-                                .orElseThrow(() -> new UsernameNotFoundException("User not found with identifier: " + identifier))));
+        // One query over username, email and mobile number; a username match wins, then email, then mobile
+        List<Users> candidates = usersRepository.findAllByIdentifier(identifier);
+        Users user = candidates.stream()
+                .min(Comparator.comparingInt(candidate -> matchPriority(candidate, identifier)))
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with identifier: " + identifier));
+
+        UserPrincipal principal = new UserPrincipal(user);
+        principalCache.put(identifier, principal);
+        return principal;
+    }
 
-        System.out.println("User found: " + user.getUsername());
-        return new UserPrincipal(user);
+    private static int matchPriority(Users user, String identifier) {
+        if (identifier.equals(user.getUsername())) return 0;
+        if (identifier.equals(user.getEmail())) return 1;
+        return 2;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,76 @@
+package com.CourtAssist.service.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived cache of loaded users by login identifier, so authenticated requests do not hit the
+ * database for the user on every call
+ * Entries expire after ttl-seconds; UserService evicts a user as soon as their profile, password
+ * or account changes.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Map<String, CachedPrincipal> principals = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public UserPrincipalCache(@Value("${security.user-cache.ttl-seconds:300}") long ttlSeconds,
+                              @Value("${security.user-cache.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return The cached principal, or null if absent or expired
+     */
+    public UserPrincipal get(String identifier) {
+        CachedPrincipal cached = principals.get(identifier);
+        if (cached == null) return null;
+        if (System.nanoTime() - cached.expiresAt() > 0) {
+            principals.remove(identifier, cached);
+            return null;
+        }
+        return cached.principal();
+    }
+
+    public void put(String identifier, UserPrincipal principal) {
+        if (principals.size() >= maxEntries) {
+            makeRoom();
+        }
+        principals.put(identifier, new CachedPrincipal(principal, System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * Removes every identifier cached for the user
+     *
+     * @param userId Id of the changed or deleted user
+     */
+    public void evict(Long userId) {
+        principals.values().removeIf(cached -> userId.equals(cached.principal().getUser().getUserId()));
+    }
+
+    /**
+     * Drops expired entries, and if the cache is still full, an arbitrary tenth of it
+     */
+    private void makeRoom() {
+        long now = System.nanoTime();
+        principals.values().removeIf(cached -> now - cached.expiresAt() > 0);
+
+        int excess = principals.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<String> keys = principals.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record CachedPrincipal(UserPrincipal principal, long expiresAt) {
+    }
+}
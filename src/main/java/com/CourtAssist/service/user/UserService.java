@@ -19,11 +19,14 @@ public class UserService {
     private final UsersRepository usersRepository;
     private final BCryptPasswordEncoder passwordEncoder;
     private final FcmTokenRepository fcmTokenRepository;
+    private final UserPrincipalCache principalCache;
 
-    public UserService(UsersRepository usersRepository, BCryptPasswordEncoder passwordEncoder, FcmTokenRepository fcmTokenRepository) {
+    public UserService(UsersRepository usersRepository, BCryptPasswordEncoder passwordEncoder, FcmTokenRepository fcmTokenRepository,
+                       UserPrincipalCache principalCache) {
         this.usersRepository = usersRepository;
         this.passwordEncoder = passwordEncoder;
         this.fcmTokenRepository = fcmTokenRepository;
+        this.principalCache = principalCache;
     }
 
     /**
@@ -154,7 +157,13 @@ public class UserService {
             user.setAdvocateName(request.getAdvocateName());
         }
 
-        return usersRepository.save(user);
+        if (request.getDigestMode() != null) {
+            user.setDigestMode(request.getDigestMode());
+        }
+
+        Users saved = usersRepository.save(user);
+        principalCache.evict(user.getUserId());
+        return saved;
     }
 
     public void updatePassword(String username, String currentPassword, String newPassword) {
@@ -174,6 +183,7 @@ public class UserService {
         // Update password
         user.setPassword(passwordEncoder.encode(newPassword));
         usersRepository.save(user);
+        principalCache.evict(user.getUserId());
 
     }
     /**
@@ -191,6 +201,7 @@ public class UserService {
         // Update password without checking current password
         user.setPassword(passwordEncoder.encode(newPassword));
         usersRepository.save(user);
+        principalCache.evict(user.getUserId());
 
     }
 
@@ -213,6 +224,7 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         usersRepository.delete(user);
+        principalCache.evict(user.getUserId());
     }
 
     /**
@@ -1,177 +0,0 @@
-package com.CourtAssist.controller;
-
-import com.CourtAssist.service.contact.EmailService;
-import com.CourtAssist.service.contact.SmsService;
-import com.CourtAssist.util.OtpService;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.*;
-
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
-@RestController
-@RequestMapping("/api/user")
-public class OtpController {
-
-    private final OtpService otpService;
-    private final EmailService emailService;
-    private final SmsService smsService;
-
-    // In-memory storage for OTPs (use Redis in production)
-    private final Map<String, String> otpStorage = new ConcurrentHashMap<>();
-    private final Map<String, Long> otpExpiry = new ConcurrentHashMap<>();
-
-    public OtpController(OtpService otpService, EmailService emailService, SmsService smsService) {
-        this.otpService = otpService;
-        this.emailService = emailService;
-        this.smsService = smsService;
-    }
-
-    @PostMapping("/send-contact-verification-otp")
-    public ResponseEntity<?> sendContactVerificationOtp(@RequestBody Map<String, String> request) {
-        try {
-            String contact = request.get("contact");
-            if (contact == null || contact.trim().isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Contact is required"));
-            }
-
-            // Generate OTP
-            String otp = otpService.generateOtp();
-
-            // Store OTP with expiry (10 minutes)
-            String normalizedContact = normalizeContact(contact);
-            otpStorage.put(normalizedContact, otp);
-            otpExpiry.put(normalizedContact, System.currentTimeMillis() + 10 * 60 * 1000);
-
-            // Send OTP via appropriate channel
-            if (contact.contains("@")) {
-                // Email
-                String subject = "Contact Verification OTP";
-                String body = "Your verification OTP is: " + otp + "\nThis OTP is valid for 10 minutes.";
-                emailService.sendMail(contact, subject, body);
-            } else {
-                // SMS
-                String message = "Court Assist - Your verification OTP is: " + otp + ". Valid for 10 minutes.";
-                smsService.sendSMS(contact, message);
-            }
-
-            return ResponseEntity.ok().body(Map.of("message", "OTP sent successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Failed to send OTP: " + e.getMessage()));
-        }
-    }
-
-    @PostMapping("/verify-contact-verification-otp")
-    public ResponseEntity<?> verifyContactVerificationOtp(@RequestBody Map<String, String> request) {
-        try {
-            String contact = request.get("contact");
-            String otp = request.get("otp");
-
-            if (contact == null || otp == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Contact and OTP are required"));
-            }
-
-            String normalizedContact = normalizeContact(contact);
-            String storedOtp = otpStorage.get(normalizedContact);
-            Long expiryTime = otpExpiry.get(normalizedContact);
-
-            if (storedOtp == null || expiryTime == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "OTP not found or expired"));
-            }
-
-            if (System.currentTimeMillis() > expiryTime) {
-                // Clean up expired OTP
-                otpStorage.remove(normalizedContact);
-                otpExpiry.remove(normalizedContact);
-                return ResponseEntity.badRequest().body(Map.of("error", "OTP has expired"));
-            }
-
-            if (!storedOtp.equals(otp)) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Invalid OTP"));
-            }
-
-            // OTP verified successfully - clean up
-            otpStorage.remove(normalizedContact);
-            otpExpiry.remove(normalizedContact);
-
-            return ResponseEntity.ok().body(Map.of("message", "Contact verified successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Verification failed: " + e.getMessage()));
-        }
-    }
-
-    // Add password reset OTP endpoints as well
-    @PostMapping("/send-password-reset-otp")
-    public ResponseEntity<?> sendPasswordResetOtp(@RequestBody Map<String, String> request) {
-        // Similar implementation to contact verification
-        try {
-            String contact = request.get("contact");
-            if (contact == null || contact.trim().isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Contact is required"));
-            }
-
-            String otp = otpService.generateOtp();
-            String normalizedContact = normalizeContact(contact);
-            otpStorage.put(normalizedContact, otp);
-            otpExpiry.put(normalizedContact, System.currentTimeMillis() + 10 * 60 * 1000);
-
-            if (contact.contains("@")) {
-                String subject = "Password Reset OTP";
-                String body = "Your password reset OTP is: " + otp + "\nThis OTP is valid for 10 minutes.";
-                emailService.sendMail(contact, subject, body);
-            } else {
-                String message = "Your password reset OTP is: " + otp + ". Valid for 10 minutes.";
-                smsService.sendSMS(contact, message);
-            }
-
-            return ResponseEntity.ok().body(Map.of("message", "Password reset OTP sent successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Failed to send OTP: " + e.getMessage()));
-        }
-    }
-
-    @PostMapping("/verify-password-reset-otp")
-    public ResponseEntity<?> verifyPasswordResetOtp(@RequestBody Map<String, String> request) {
-        // Similar to contact verification verification
-        try {
-            String contact = request.get("contact");
-            String otp = request.get("otp");
-
-            if (contact == null || otp == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Contact and OTP are required"));
-            }
-
-            String normalizedContact = normalizeContact(contact);
-            String storedOtp = otpStorage.get(normalizedContact);
-            Long expiryTime = otpExpiry.get(normalizedContact);
-
-            if (storedOtp == null || expiryTime == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "OTP not found or expired"));
-            }
-
-            if (System.currentTimeMillis() > expiryTime) {
-                otpStorage.remove(normalizedContact);
-                otpExpiry.remove(normalizedContact);
-                return ResponseEntity.badRequest().body(Map.of("error", "OTP has expired"));
-            }
-
-            if (!storedOtp.equals(otp)) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Invalid OTP"));
-            }
-
-            // Mark this OTP as used for password reset
-            return ResponseEntity.ok().body(Map.of("message", "OTP verified successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Verification failed: " + e.getMessage()));
-        }
-    }
-
-    private String normalizeContact(String contact) {
-        return contact.trim().toLowerCase();
-    }
-}
\ No newline at end of file
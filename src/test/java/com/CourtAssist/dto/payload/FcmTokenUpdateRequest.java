@@ -1,8 +0,0 @@
-package com.CourtAssist.dto.payload;
-
-import lombok.Data;
-
-@Data
-public class FcmTokenUpdateRequest {
-    private String fcmToken;
-}
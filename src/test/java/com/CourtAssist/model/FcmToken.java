@@ -1,28 +0,0 @@
-package com.CourtAssist.model;
-
-import jakarta.persistence.*;
-import lombok.Data;
-import org.hibernate.annotations.CreationTimestamp;
-
-import java.time.LocalDateTime;
-
-@Data
-@Entity
-@Table(name = "fcm_tokens")
-public class FcmToken {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(name = "user_id", nullable = false)
-    private Long userId;
-
-    @Column(name = "fcm_token", nullable = false, columnDefinition = "TEXT")
-    private String fcmToken;
-
-    @Column(name = "last_updated")
-    @CreationTimestamp
-    private LocalDateTime lastUpdated;
-    
-}
\ No newline at end of file
@@ -1,41 +0,0 @@
-package com.CourtAssist.model;
-
-import jakarta.persistence.*;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import lombok.AllArgsConstructor;
-
-@Entity
-@Table(name = "users")
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class Users {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "user_id")
-    private Long userId;
-
-    @Column(nullable = false, unique = true)
-    private String username;
-
-    @Column(nullable = false)
-    private String password;
-
-    @Column(unique = true)
-    private String email;
-
-    @Column(unique = true)
-    private String mobileNo;
-
-    @Column
-    private String advocateName;
-
-    @Enumerated(EnumType.STRING)
-    private UserRole role;
-
-    public enum UserRole {
-        ADVOCATE,
-        USER
-    }
-}
\ No newline at end of file
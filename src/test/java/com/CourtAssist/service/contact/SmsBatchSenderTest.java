@@ -0,0 +1,112 @@
+package com.CourtAssist.service.contact;
+
+import com.CourtAssist.config.RestTemplateConfig;
+import com.CourtAssist.service.notification.ChannelRateLimiter;
+import com.CourtAssist.service.notification.DeliveryResilience;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@SpringJUnitConfig(classes = {RestTemplateConfig.class, SmsService.class, SmsBatchSender.class,
+        ChannelRateLimiter.class, DeliveryResilience.class, SmsBatchSenderTest.SchedulingConfig.class})
+@TestPropertySource(properties = {
+        "smsgate.url=http://sms-gate.test",
+        "smsgate.username=user",
+        "smsgate.password=secret",
+        "smsgate.device.id=device-1",
+        "notification.sms.max-recipients=2",
+        "notification.sms.batch-window-ms=200",
+        "notification.rate.sms.permits-per-second=1000",
+        "notification.rate.sms.burst=1000"
+})
+class SmsBatchSenderTest {
+
+    private static final String ENDPOINT = "http://sms-gate.test/3rdparty/v1/messages";
+
+    @Configuration
+    @EnableScheduling
+    static class SchedulingConfig {
+    }
+
+    @Autowired
+    @Qualifier("smsRestTemplate")
+    private RestTemplate smsRestTemplate;
+
+    @Autowired
+    private SmsService smsService;
+
+    @Autowired
+    private ChannelRateLimiter rateLimiter;
+
+    @Autowired
+    private DeliveryResilience resilience;
+
+    @Autowired
+    private SmsBatchSender scheduledSender;
+
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = MockRestServiceServer.bindTo(smsRestTemplate).build();
+    }
+
+    @Test
+    void flushSendsOneRequestPerDistinctTextAndRecipientChunk() throws Exception {
+        // Not the scheduled bean, so no window flush can split the queue while it is filled
+        SmsBatchSender sender = new SmsBatchSender(smsService, rateLimiter, resilience, 2);
+        expectRequest("Hearing A", "+919000000001", "+919000000002");
+        expectRequest("Hearing A", "+919000000003", "+919000000004");
+        expectRequest("Hearing A", "+919000000005");
+        expectRequest("Hearing B", "+919000000006");
+
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        results.add(sender.send("9000000001", "Hearing A"));
+        results.add(sender.send("9000000006", "Hearing B"));
+        results.add(sender.send("9000000002", "Hearing A"));
+        results.add(sender.send("9000000003", "Hearing A"));
+        results.add(sender.send("9000000004", "Hearing A"));
+        results.add(sender.send("9000000005", "Hearing A"));
+        sender.flush();
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        server.verify();
+    }
+
+    @Test
+    void queuedSmsIsSentWhenTheWindowExpires() throws Exception {
+        expectRequest("Hearing C", "+919000000007");
+
+        // flush() is never called here; the scheduled window has to send it
+        scheduledSender.send("9000000007", "Hearing C").get(5, TimeUnit.SECONDS);
+        server.verify();
+    }
+
+    private void expectRequest(String text, String... phoneNumbers) {
+        server.expect(requestTo(ENDPOINT))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.textMessage.text").value(text))
+                .andExpect(jsonPath("$.phoneNumbers", contains(phoneNumbers)))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+    }
+}
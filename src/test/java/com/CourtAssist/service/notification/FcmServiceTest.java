@@ -0,0 +1,140 @@
+package com.CourtAssist.service.notification;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FcmServiceTest {
+
+    private final FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
+    private final List<Integer> sendEachSizes = Collections.synchronizedList(new ArrayList<>());
+    private ExecutorService executor;
+    private FcmService fcmService;
+
+    @BeforeEach
+    void setUp() throws FirebaseMessagingException {
+        executor = Executors.newFixedThreadPool(3);
+        fcmService = new FcmService(firebaseMessaging, executor);
+
+        // Every seventh token is unregistered; the outcome depends on the token, not on the chunk
+        when(firebaseMessaging.sendEach(anyList())).thenAnswer(invocation -> {
+            List<Message> messages = invocation.getArgument(0);
+            sendEachSizes.add(messages.size());
+            List<SendResponse> responses = new ArrayList<>();
+            for (Message message : messages) {
+                String token = (String) ReflectionTestUtils.getField(message, "token");
+                responses.add(tokenNumber(token) % 7 == 0 ? failure(MessagingErrorCode.UNREGISTERED) : success());
+            }
+            BatchResponse response = mock(BatchResponse.class);
+            when(response.getResponses()).thenReturn(responses);
+            return response;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sendBatchSplitsIntoChunksOfFiveHundred() {
+        fcmService.sendBatch(messages(1201));
+
+        List<Integer> sizes = new ArrayList<>(sendEachSizes);
+        Collections.sort(sizes);
+        assertEquals(List.of(201, 500, 500), sizes);
+    }
+
+    @Test
+    void sendBatchReturnsResultsInMessageOrder() {
+        List<FcmService.PushMessage> messages = messages(1201);
+
+        List<FcmService.PushResult> results = fcmService.sendBatch(messages);
+
+        assertEquals(messages.size(), results.size());
+        for (int i = 0; i < messages.size(); i++) {
+            FcmService.PushResult result = results.get(i);
+            assertEquals(messages.get(i).token(), result.token());
+            if (i % 7 == 0) {
+                assertFalse(result.success());
+                assertEquals(MessagingErrorCode.UNREGISTERED, result.errorCode());
+            } else {
+                assertTrue(result.success());
+                assertNull(result.errorCode());
+            }
+        }
+    }
+
+    @Test
+    void failedCallFailsEveryMessageOfItsChunkWithoutErrorCode() throws FirebaseMessagingException {
+        when(firebaseMessaging.sendEach(anyList())).thenThrow(new IllegalStateException("network down"));
+
+        List<FcmService.PushResult> results = fcmService.sendBatch(messages(3));
+
+        assertEquals(List.of("token-0", "token-1", "token-2"), results.stream().map(FcmService.PushResult::token).toList());
+        results.forEach(result -> {
+            assertFalse(result.success());
+            assertNull(result.errorCode());
+            assertFalse(result.isTokenInvalid());
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(MessagingErrorCode.class)
+    void onlyUnregisteredAndSenderMismatchInvalidateTheToken(MessagingErrorCode errorCode) {
+        FcmService.PushResult result = FcmService.PushResult.failure("token-0", errorCode, errorCode.name());
+
+        assertEquals(errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH,
+                result.isTokenInvalid());
+    }
+
+    private static List<FcmService.PushMessage> messages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new FcmService.PushMessage("token-" + i, "Hearing", "Body " + i))
+                .toList();
+    }
+
+    private static int tokenNumber(String token) {
+        return Integer.parseInt(token.substring("token-".length()));
+    }
+
+    private static SendResponse success() {
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(true);
+        return response;
+    }
+
+    private static SendResponse failure(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+        when(exception.getMessage()).thenReturn(errorCode.name());
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(false);
+        when(response.getException()).thenReturn(exception);
+        return response;
+    }
+}
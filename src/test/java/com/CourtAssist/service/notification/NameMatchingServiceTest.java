@@ -0,0 +1,25 @@
+package com.CourtAssist.service.notification;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NameMatchingServiceTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "   ",
+            "M/S. R. KRISHNAMURTHY, ADDL. PUBLIC PROSECUTOR FOR R1 AND R2",
+            "MR.S.SUBBIAH SPECIAL GOVERNMENT PLEADER  MEMO FILED BY THE LEARNED ADVOCATE",
+            "by the for\tand\ncourt",
+            "Byrne Thenmozhi Forbes",
+            "K.MOHAN & CO., (R-3)  DT:12/03/2024",
+            "İSMAİL ÖZTÜRK"
+    })
+    void singlePassNormalizerMatchesTheRegexChain(String name) {
+        assertEquals(NameNormalizationBenchmark.regexNormalizeTargetName(name),
+                NameMatchingService.normalizeTargetName(name));
+    }
+}
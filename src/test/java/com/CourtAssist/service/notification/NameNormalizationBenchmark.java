@@ -0,0 +1,64 @@
+package com.CourtAssist.service.notification;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Before/after benchmark for NameMatchingService.normalizeTargetName:
+ * the former chain of String.replaceAll calls, one per noise word, against the single-pass normalizer
+ * Not run by surefire; after mvn test-compile run main() from the IDE, or org.openjdk.jmh.Main
+ * NameNormalizationBenchmark with target/test-classes, target/classes and the test classpath
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NameNormalizationBenchmark {
+
+    @Param({
+            "M/S. R. KRISHNAMURTHY, ADDL. PUBLIC PROSECUTOR FOR R1 AND R2",
+            "MR.S.SUBBIAH SPECIAL GOVERNMENT PLEADER  MEMO FILED BY THE LEARNED ADVOCATE DT 12.03.2024 " +
+                    "FOR R1 TO R5, M/S.A.ARUMUGAM, K.MOHAN, CGC NOTICE USR"
+    })
+    public String advocateField;
+
+    @Benchmark
+    public String regexChain() {
+        return regexNormalizeTargetName(advocateField);
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return NameMatchingService.normalizeTargetName(advocateField);
+    }
+
+    /**
+     * normalizeTargetName as it was before the single-pass rewrite
+     */
+    static String regexNormalizeTargetName(String name) {
+        if (name == null || name.isBlank()) return "";
+
+        String normalized = name.toLowerCase()
+                .replaceAll("[^a-zA-Z0-9\\s]", "")
+                .replaceAll("\\s+", " ")
+                .trim();
+
+        for (String noiseWord : NameMatchingService.LEGAL_NOISE_WORDS) {
+            normalized = normalized.replaceAll("\\b" + noiseWord + "\\b", "");
+        }
+
+        return normalized.replaceAll("\\s+", " ").trim();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NameNormalizationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
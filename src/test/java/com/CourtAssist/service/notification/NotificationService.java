@@ -1,32 +0,0 @@
-package com.CourtAssist.service.notification;
-
-import com.CourtAssist.dto.NotificationDTO;
-import com.CourtAssist.repository.NotificationRepository;
-import org.springframework.stereotype.Service;
-
-import java.util.List;
-
-@Service
-public class NotificationService {
-    private final NotificationRepository notificationRepository;
-
-    public NotificationService(NotificationRepository notificationRepository) {
-        this.notificationRepository = notificationRepository;
-    }
-
-    public List<NotificationDTO> getUserNotifications(Long userId) {
-        return notificationRepository.findDTOByUserId(userId);
-    }
-
-    public void markAsRead(Long notificationId) {
-        notificationRepository.markAsRead(notificationId);
-    }
-
-    public void markAllAsRead(Long userId) {
-        notificationRepository.markAllAsReadByUserId(userId);
-    }
-
-    public Long getUnreadCount(Long userId) {
-        return notificationRepository.countUnreadByUserId(userId);
-    }
-}
\ No newline at end of file
@@ -1,21 +0,0 @@
-package com.CourtAssist.util;
-
-import org.springframework.stereotype.Service;
-
-import java.security.SecureRandom;
-
-@Service
-public class OtpService {
-
-    private static final String NUMBERS = "0123456789";
-    private static final int OTP_LENGTH = 6;
-    private final SecureRandom random = new SecureRandom();
-
-    public String generateOtp() {
-        StringBuilder otp = new StringBuilder(OTP_LENGTH);
-        for (int i = 0; i < OTP_LENGTH; i++) {
-            otp.append(NUMBERS.charAt(random.nextInt(NUMBERS.length())));
-        }
-        return otp.toString();
-    }
-}
\ No newline at end of file